@@ -1,15 +1,84 @@
 package ru.robert_grammy.astro_space;
 
+import ru.robert_grammy.astro_space.benchmark.BenchmarkSuite;
+import ru.robert_grammy.astro_space.engine.InputScript;
+import ru.robert_grammy.astro_space.engine.sound.SoundBackend;
 import ru.robert_grammy.astro_space.game.Game;
+import ru.robert_grammy.astro_space.game.HeadlessSimulation;
+import ru.robert_grammy.astro_space.graphics.HeadlessWindow;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+import ru.robert_grammy.astro_space.utils.rnd.RandomValueRange;
+
+import java.util.List;
 
 public class Main {
 
-    private static final Game game = new Game();
+    private static final String HEADLESS_ARGUMENT = "--headless";
+    private static final String FRAME_RATE_ARGUMENT = "--fps";
+    private static final String BENCHMARK_ARGUMENT = "--benchmark";
+    private static final String PARTICLE_WORKERS_ARGUMENT = "--particle-workers";
+    private static final String NATIVE_RESOLUTION_ARGUMENT = "--native-resolution";
+    private static final String ACCELERATED_ARGUMENT = "--accelerated";
+    private static final String FRAME_TIME_ARGUMENT = "--frame-time";
+    private static final String DIRTY_REGIONS_ARGUMENT = "--dirty-regions";
+    private static final String SEED_ARGUMENT = "--seed";
+    private static final String ARGUMENT_PREFIX = "--";
+    private static final String HEADLESS_PROPERTY = "java.awt.headless";
+    private static final long DEFAULT_HEADLESS_TICKS = 36000;
+    private static Game game;
 
     public static void main(String... args) {
+        List<String> arguments = List.of(args);
+        if (arguments.contains(BENCHMARK_ARGUMENT)) {
+            benchmark(arguments);
+            return;
+        }
+        if (arguments.contains(HEADLESS_ARGUMENT)) {
+            simulate(arguments);
+            return;
+        }
+        game = new Game();
+        int frameRateIndex = arguments.indexOf(FRAME_RATE_ARGUMENT) + 1;
+        if (frameRateIndex > 0 && frameRateIndex < arguments.size()) game.setFrameRateLimit(Integer.parseInt(arguments.get(frameRateIndex)));
+        int particleWorkersIndex = arguments.indexOf(PARTICLE_WORKERS_ARGUMENT) + 1;
+        if (particleWorkersIndex > 0 && particleWorkersIndex < arguments.size()) game.getWindow().getCanvasImage().setParticleWorkers(Integer.parseInt(arguments.get(particleWorkersIndex)));
+        game.getWindow().setNativeResolution(arguments.contains(NATIVE_RESOLUTION_ARGUMENT));
+        game.getWindow().setAccelerated(arguments.contains(ACCELERATED_ARGUMENT));
+        game.setFrameTimeReported(arguments.contains(FRAME_TIME_ARGUMENT));
+        game.setDirtyRegions(arguments.contains(DIRTY_REGIONS_ARGUMENT));
         game.play();
     }
 
+    private static void simulate(List<String> arguments) {
+        System.setProperty(HEADLESS_PROPERTY, Boolean.TRUE.toString());
+        SoundBackend.use(SoundBackend.SILENT);
+        int seedIndex = arguments.indexOf(SEED_ARGUMENT) + 1;
+        if (seedIndex > 0 && seedIndex < arguments.size()) RandomValueRange.RND.setSeed(Long.parseLong(arguments.get(seedIndex)));
+        game = new Game(new HeadlessWindow());
+        int ticksIndex = arguments.indexOf(HEADLESS_ARGUMENT) + 1;
+        long ticks = ticksIndex < arguments.size() && !arguments.get(ticksIndex).startsWith(ARGUMENT_PREFIX) ? Long.parseLong(arguments.get(ticksIndex)) : DEFAULT_HEADLESS_TICKS;
+        new HeadlessSimulation(game, InputScript.DEMO).run(ticks);
+        System.exit(0);
+    }
+
+    private static void benchmark(List<String> arguments) {
+        System.setProperty(HEADLESS_PROPERTY, Boolean.TRUE.toString());
+        SoundBackend.use(SoundBackend.SILENT);
+        game = new Game(new HeadlessWindow());
+        int suiteIndex = arguments.indexOf(BENCHMARK_ARGUMENT) + 1;
+        try {
+            if (suiteIndex < arguments.size()) {
+                BenchmarkSuite.valueOf(arguments.get(suiteIndex).toUpperCase()).run();
+            } else {
+                for (BenchmarkSuite suite : BenchmarkSuite.values()) suite.run();
+            }
+        } catch (IllegalStateException exception) {
+            GameDebugger.console(exception);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
     public static Game getGame() {
         return game;
     }
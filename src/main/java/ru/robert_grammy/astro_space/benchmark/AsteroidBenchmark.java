@@ -0,0 +1,59 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.game.asteroid.AsteroidSpriteAtlas;
+import ru.robert_grammy.astro_space.game.shape.LineShape;
+import ru.robert_grammy.astro_space.game.shape.ShapeManager;
+import ru.robert_grammy.astro_space.graphics.CanvasImage;
+import ru.robert_grammy.astro_space.graphics.Window;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.awt.*;
+import java.util.Random;
+
+public final class AsteroidBenchmark {
+
+    private static final int ASTEROIDS_COUNT = 40;
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 25;
+    private static final float LINE_WEIGHT = 2;
+    private static final long SEED = 42;
+
+    private AsteroidBenchmark() {}
+
+    public static void run() {
+        Random random = new Random(SEED);
+        LineShape[] shapes = new LineShape[ASTEROIDS_COUNT];
+        double[] x = new double[ASTEROIDS_COUNT], y = new double[ASTEROIDS_COUNT], rotations = new double[ASTEROIDS_COUNT];
+        int[] tints = new int[ASTEROIDS_COUNT];
+        for (int i = 0; i < ASTEROIDS_COUNT; i++) {
+            shapes[i] = ShapeManager.generate(random.nextInt(MIN_SIZE, MAX_SIZE));
+            x[i] = random.nextDouble(Window.BUFFER_WIDTH);
+            y[i] = random.nextDouble(Window.BUFFER_HEIGHT);
+            rotations[i] = random.nextDouble(QMath.DEGREES_OF_FULL_ANGLE);
+            tints[i] = random.nextInt(AsteroidSpriteAtlas.TINTS_COUNT);
+        }
+        CanvasImage canvas = new CanvasImage(Window.BUFFER_WIDTH, Window.BUFFER_HEIGHT);
+        AsteroidSpriteAtlas atlas = new AsteroidSpriteAtlas();
+        GameDebugger.console("Asteroids, " + ASTEROIDS_COUNT + " shapes of size " + MIN_SIZE + ".." + MAX_SIZE + ", rotating 1 degree per frame");
+        Benchmark.run("Java2D polygon fill and stroke", ASTEROIDS_COUNT, () -> {
+            canvas.clear();
+            Graphics2D graphics = canvas.getGraphics();
+            for (int i = 0; i < ASTEROIDS_COUNT; i++) {
+                rotations[i] += 1;
+                shapes[i].getOutline().paint(graphics, x[i], y[i], rotations[i], shapes[i].getScale(), AsteroidSpriteAtlas.getTintColor(shapes[i].getFillColor(), tints[i]), shapes[i].getLineColor(), LINE_WEIGHT);
+            }
+            return canvas.get(1).getRGB(0, 0);
+        });
+        Benchmark.run("Sprite atlas blit", ASTEROIDS_COUNT, () -> {
+            canvas.clear();
+            Graphics2D graphics = canvas.getGraphics();
+            for (int i = 0; i < ASTEROIDS_COUNT; i++) {
+                rotations[i] += 1;
+                atlas.paint(graphics, shapes[i].getOutline(), x[i], y[i], rotations[i], shapes[i].getScale(), LINE_WEIGHT, tints[i], 1);
+            }
+            return canvas.get(1).getRGB(0, 0);
+        });
+    }
+
+}
@@ -0,0 +1,32 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.util.function.DoubleSupplier;
+
+public final class Benchmark {
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURE_ROUNDS = 20;
+    private static volatile double sink;
+
+    private Benchmark() {}
+
+    public static void run(String name, long operations, DoubleSupplier round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += round.getAsDouble();
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += round.getAsDouble();
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+        double average = (double) total / MEASURE_ROUNDS;
+        GameDebugger.console(String.format("%-40s %12.3f ns/op (best %.3f ns/op)", name, average / operations, (double) best / operations));
+    }
+
+}
@@ -0,0 +1,22 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+public enum BenchmarkSuite {
+
+    TRIGONOMETRY(TrigonometryBenchmark::run),
+    PARTICLES(ParticleBenchmark::run),
+    SCALING(ScalingBenchmark::run),
+    RESOLUTION(ResolutionBenchmark::run),
+    ASTEROIDS(AsteroidBenchmark::run),
+    DIRTY_REGIONS(DirtyRegionBenchmark::run);
+
+    private final Runnable runner;
+
+    BenchmarkSuite(Runnable runner) {
+        this.runner = runner;
+    }
+
+    public void run() {
+        runner.run();
+    }
+
+}
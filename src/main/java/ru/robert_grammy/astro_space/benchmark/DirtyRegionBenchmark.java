@@ -0,0 +1,53 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.InputScript;
+import ru.robert_grammy.astro_space.game.Game;
+import ru.robert_grammy.astro_space.graphics.HeadlessWindow;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.awt.event.KeyEvent;
+
+public final class DirtyRegionBenchmark {
+
+    private static final int WARMUP_TICKS = 1200;
+    private static final int FRAMES_PER_ROUND = 10;
+    private static long tick = 0;
+
+    private DirtyRegionBenchmark() {}
+
+    public static void run() {
+        Game game = Main.getGame();
+        HeadlessWindow window = (HeadlessWindow) game.getWindow();
+        game.initialize();
+        for (tick = 0; tick < WARMUP_TICKS; tick++) {
+            InputScript.DEMO.apply(tick, window.getKeyboard());
+            game.update();
+        }
+        GameDebugger.console("Dirty regions, game scene after " + WARMUP_TICKS + " ticks, " + FRAMES_PER_ROUND + " frames per round");
+        benchmark(game, window, "playing", InputScript.DEMO);
+        InputScript.IDLE.apply(tick, window.getKeyboard());
+        window.getKeyboard().press(KeyEvent.VK_P);
+        game.update();
+        window.getKeyboard().release(KeyEvent.VK_P);
+        benchmark(game, window, "paused", InputScript.IDLE);
+        game.setDirtyRegions(false);
+    }
+
+    private static void benchmark(Game game, HeadlessWindow window, String scene, InputScript input) {
+        game.setDirtyRegions(false);
+        Benchmark.run("Full redraw, " + scene, FRAMES_PER_ROUND, () -> render(game, window, input));
+        game.setDirtyRegions(true);
+        Benchmark.run("Dirty regions, " + scene, FRAMES_PER_ROUND, () -> render(game, window, input));
+    }
+
+    private static double render(Game game, HeadlessWindow window, InputScript input) {
+        for (int frame = 0; frame < FRAMES_PER_ROUND; frame++) {
+            input.apply(tick++, window.getKeyboard());
+            game.update();
+            game.render();
+        }
+        return game.getDrawnItems();
+    }
+
+}
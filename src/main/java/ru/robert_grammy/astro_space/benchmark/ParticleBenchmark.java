@@ -0,0 +1,88 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.graphics.CanvasImage;
+import ru.robert_grammy.astro_space.graphics.DiscRasterizer;
+import ru.robert_grammy.astro_space.graphics.Window;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.awt.*;
+import java.util.Random;
+
+public final class ParticleBenchmark {
+
+    private static final int DISCS_COUNT = 2000;
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 60;
+    private static final int WORKERS_COUNT = 4;
+    private static final long SEED = 42;
+    private static final int MAX_CHANNEL_TOLERANCE = 32;
+    private static final double MEAN_CHANNEL_TOLERANCE = 1.0;
+    private static final int NOTICEABLE_DIFFERENCE = 2;
+    private static final double NOTICEABLE_PIXELS_TOLERANCE = 0.05;
+
+    private ParticleBenchmark() {}
+
+    public static void run() {
+        Random random = new Random(SEED);
+        int[] lefts = new int[DISCS_COUNT], tops = new int[DISCS_COUNT], sizes = new int[DISCS_COUNT], colors = new int[DISCS_COUNT];
+        for (int i = 0; i < DISCS_COUNT; i++) {
+            sizes[i] = random.nextInt(MIN_SIZE, MAX_SIZE);
+            lefts[i] = random.nextInt(-sizes[i], Window.BUFFER_WIDTH);
+            tops[i] = random.nextInt(-sizes[i], Window.BUFFER_HEIGHT);
+            colors[i] = (random.nextInt(20, 250) << 24) | random.nextInt(0x1000000);
+        }
+        CanvasImage java2d = new CanvasImage(Window.BUFFER_WIDTH, Window.BUFFER_HEIGHT);
+        CanvasImage rasterized = new CanvasImage(Window.BUFFER_WIDTH, Window.BUFFER_HEIGHT);
+        GameDebugger.console("Particles, " + DISCS_COUNT + " discs of " + MIN_SIZE + ".." + MAX_SIZE + " px on " + Window.BUFFER_WIDTH + "x" + Window.BUFFER_HEIGHT);
+        Benchmark.run("Java2D fillOval", DISCS_COUNT, () -> {
+            java2d.clear();
+            Graphics2D graphics = java2d.getGraphics();
+            for (int i = 0; i < DISCS_COUNT; i++) {
+                graphics.setColor(new Color(colors[i], true));
+                graphics.fillOval(lefts[i], tops[i], sizes[i], sizes[i]);
+            }
+            return java2d.get(1).getRGB(0, 0);
+        });
+        DiscRasterizer rasterizer = rasterized.getDiscRasterizer();
+        Benchmark.run("DiscRasterizer", DISCS_COUNT, () -> rasterize(rasterized, lefts, tops, sizes, colors));
+        rasterizer.setParallelism(WORKERS_COUNT);
+        Benchmark.run("DiscRasterizer, " + WORKERS_COUNT + " workers", DISCS_COUNT, () -> rasterize(rasterized, lefts, tops, sizes, colors));
+        rasterizer.setParallelism(1);
+        compare(java2d, rasterized);
+    }
+
+    private static double rasterize(CanvasImage canvas, int[] lefts, int[] tops, int[] sizes, int[] colors) {
+        canvas.clear();
+        DiscRasterizer rasterizer = canvas.getDiscRasterizer();
+        for (int i = 0; i < DISCS_COUNT; i++) {
+            rasterizer.add(lefts[i], tops[i], sizes[i], colors[i]);
+        }
+        rasterizer.flush();
+        return canvas.get(1).getRGB(0, 0);
+    }
+
+    private static void compare(CanvasImage expected, CanvasImage actual) {
+        int width = Window.BUFFER_WIDTH, height = Window.BUFFER_HEIGHT;
+        int[] expectedPixels = expected.get(1).getRGB(0, 0, width, height, null, 0, width);
+        int[] actualPixels = actual.get(1).getRGB(0, 0, width, height, null, 0, width);
+        int maxDifference = 0;
+        long totalDifference = 0;
+        int differentPixels = 0;
+        for (int i = 0; i < expectedPixels.length; i++) {
+            int difference = 0;
+            for (int shift = 0; shift < 24; shift += 8) {
+                difference = Math.max(difference, Math.abs(((expectedPixels[i] >> shift) & 0xFF) - ((actualPixels[i] >> shift) & 0xFF)));
+            }
+            maxDifference = Math.max(maxDifference, difference);
+            totalDifference += difference;
+            if (difference > NOTICEABLE_DIFFERENCE) differentPixels++;
+        }
+        double meanDifference = (double) totalDifference / expectedPixels.length;
+        double noticeablePixels = (double) differentPixels / expectedPixels.length;
+        GameDebugger.console(String.format("Against Java2D: max channel difference %d (tolerance %d), mean %.4f (tolerance %.4f), %.3f%% pixels off by more than %d (tolerance %.3f%%)", maxDifference, MAX_CHANNEL_TOLERANCE, meanDifference, MEAN_CHANNEL_TOLERANCE, 100 * noticeablePixels, NOTICEABLE_DIFFERENCE, 100 * NOTICEABLE_PIXELS_TOLERANCE));
+        if (maxDifference > MAX_CHANNEL_TOLERANCE || meanDifference > MEAN_CHANNEL_TOLERANCE || noticeablePixels > NOTICEABLE_PIXELS_TOLERANCE) {
+            throw new IllegalStateException("DiscRasterizer output differs from Java2D beyond tolerance");
+        }
+    }
+
+}
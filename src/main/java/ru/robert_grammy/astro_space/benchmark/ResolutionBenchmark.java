@@ -0,0 +1,47 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.InputScript;
+import ru.robert_grammy.astro_space.game.Game;
+import ru.robert_grammy.astro_space.graphics.HeadlessWindow;
+import ru.robert_grammy.astro_space.graphics.Window;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.util.Map;
+
+public final class ResolutionBenchmark {
+
+    private static final int WARMUP_TICKS = 1200;
+    private static final int FRAMES_PER_ROUND = 10;
+    private static final Map<String, Integer> TARGET_WIDTHS = Map.of("1080p", 1920, "4K", 3840);
+
+    private ResolutionBenchmark() {}
+
+    public static void run() {
+        Game game = Main.getGame();
+        HeadlessWindow window = (HeadlessWindow) game.getWindow();
+        game.initialize();
+        for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+            InputScript.DEMO.apply(tick, window.getKeyboard());
+            game.update();
+        }
+        GameDebugger.console("Resolution, game scene after " + WARMUP_TICKS + " ticks, " + FRAMES_PER_ROUND + " frames per round");
+        TARGET_WIDTHS.entrySet().stream().sorted(Map.Entry.comparingByValue()).forEach(target -> {
+            window.setOutputScale((double) target.getValue() / Window.BUFFER_WIDTH);
+            window.setNativeResolution(false);
+            Benchmark.run("Upscaled " + target.getKey(), FRAMES_PER_ROUND, () -> render(game, window));
+            window.setNativeResolution(true);
+            Benchmark.run("Native " + target.getKey(), FRAMES_PER_ROUND, () -> render(game, window));
+        });
+        window.setOutputScale(1);
+        window.setNativeResolution(false);
+    }
+
+    private static double render(Game game, HeadlessWindow window) {
+        for (int frame = 0; frame < FRAMES_PER_ROUND; frame++) {
+            game.render();
+        }
+        return window.getOutput().getRGB(0, 0);
+    }
+
+}
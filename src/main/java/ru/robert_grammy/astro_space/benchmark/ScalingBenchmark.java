@@ -0,0 +1,71 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.graphics.CanvasImage;
+import ru.robert_grammy.astro_space.graphics.ImageScaler;
+import ru.robert_grammy.astro_space.graphics.Window;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class ScalingBenchmark {
+
+    private static final int LEGACY_SQRT_OF_THREADS_COUNT = 5;
+    private static final int RINGS_COUNT = 40;
+    private static final int RING_SIZE = 120;
+    private static final Map<String, Integer> TARGET_WIDTHS = Map.of("1080p", 1920, "4K", 3840);
+
+    private ScalingBenchmark() {}
+
+    public static void run() {
+        CanvasImage canvas = new CanvasImage(Window.BUFFER_WIDTH, Window.BUFFER_HEIGHT);
+        canvas.clear();
+        Graphics2D graphics = canvas.getGraphics();
+        graphics.setColor(Color.WHITE);
+        for (int i = 0; i < RINGS_COUNT; i++) {
+            graphics.drawOval(i * Window.BUFFER_WIDTH / RINGS_COUNT, i * Window.BUFFER_HEIGHT / RINGS_COUNT, RING_SIZE, RING_SIZE);
+        }
+        BufferedImage image = canvas.get(1);
+        GameDebugger.console("Scaling, " + Window.BUFFER_WIDTH + "x" + Window.BUFFER_HEIGHT + " canvas, " + ImageScaler.DEFAULT_PARALLELISM + " workers");
+        TARGET_WIDTHS.entrySet().stream().sorted(Map.Entry.comparingByValue()).forEach(target -> {
+            double scale = (double) target.getValue() / Window.BUFFER_WIDTH;
+            Benchmark.run("Thread per tile " + target.getKey(), 1, () -> getLegacyScaledImage(image, scale).getRGB(0, 0));
+            Benchmark.run("ImageScaler " + target.getKey(), 1, () -> canvas.get(scale).getRGB(0, 0));
+        });
+    }
+
+    private static BufferedImage getLegacyScaledImage(BufferedImage image, double scale) {
+        int threadsCount = LEGACY_SQRT_OF_THREADS_COUNT;
+        int height = image.getHeight() / threadsCount, width = image.getWidth() / threadsCount;
+        int newHeight = (int) (height * scale), newWidth = (int) (width * scale);
+        List<Thread> threadList = new ArrayList<>();
+        BufferedImage result = new BufferedImage((int) (image.getWidth() * scale), (int) (image.getHeight() * scale), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = (Graphics2D) result.getGraphics();
+        for (int v = 0; v < threadsCount; v++) {
+            for (int h = 0; h < threadsCount; h++) {
+                BufferedImage part = image.getSubimage(h * width, v * height, width, height);
+                int column = h, row = v;
+                Thread thread = new Thread(() -> {
+                    AffineTransformOp transform = new AffineTransformOp(AffineTransform.getScaleInstance(scale, scale), AffineTransformOp.TYPE_BILINEAR);
+                    graphics.drawImage(transform.filter(part, null), column * newWidth, row * newHeight, null);
+                });
+                threadList.add(thread);
+                thread.start();
+            }
+        }
+        threadList.forEach(thread -> {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                GameDebugger.console(e);
+            }
+        });
+        return result;
+    }
+
+}
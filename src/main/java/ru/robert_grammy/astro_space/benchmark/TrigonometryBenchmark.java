@@ -0,0 +1,79 @@
+package ru.robert_grammy.astro_space.benchmark;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public final class TrigonometryBenchmark {
+
+    private static final int ANGLES_COUNT = 1 << 16;
+    private static final long SEED = 42;
+
+    private TrigonometryBenchmark() {}
+
+    public static void run() {
+        Random random = new Random(SEED);
+        double[] angles = new double[ANGLES_COUNT];
+        int[] wholeAngles = new int[ANGLES_COUNT];
+        for (int i = 0; i < ANGLES_COUNT; i++) {
+            angles[i] = random.nextDouble(-720, 720);
+            wholeAngles[i] = (int) Math.floor(angles[i]);
+        }
+        Map<Integer, Double> sinMap = new HashMap<>();
+        Map<Integer, Double> cosMap = new HashMap<>();
+        for (int degree = 0; degree < QMath.DEGREES_OF_FULL_ANGLE; degree++) {
+            sinMap.put(degree, Math.sin(Math.toRadians(degree)));
+            cosMap.put(degree, Math.cos(Math.toRadians(degree)));
+        }
+        GameDebugger.console("Trigonometry, table resolution 1/" + QMath.RESOLUTION + " degree");
+        Benchmark.run("Math.sin/cos", ANGLES_COUNT, () -> {
+            double sum = 0;
+            for (double angle : angles) {
+                double radian = Math.toRadians(angle);
+                sum += Math.sin(radian) + Math.cos(radian);
+            }
+            return sum;
+        });
+        Benchmark.run("HashMap<Integer, Double> int degrees", ANGLES_COUNT, () -> {
+            double sum = 0;
+            for (int angle : wholeAngles) {
+                int degree = Math.floorMod(angle, QMath.DEGREES_OF_FULL_ANGLE);
+                Math.toRadians(degree);
+                sum += sinMap.get(degree) + cosMap.get(degree);
+            }
+            return sum;
+        });
+        Benchmark.run("QMath int degrees", ANGLES_COUNT, () -> {
+            double sum = 0;
+            for (int angle : wholeAngles) {
+                sum += QMath.sin(angle) + QMath.cos(angle);
+            }
+            return sum;
+        });
+        Benchmark.run("QMath nearest", ANGLES_COUNT, () -> {
+            double sum = 0;
+            for (double angle : angles) {
+                sum += QMath.sin(angle) + QMath.cos(angle);
+            }
+            return sum;
+        });
+        Benchmark.run("QMath interpolated", ANGLES_COUNT, () -> {
+            double sum = 0;
+            for (double angle : angles) {
+                sum += QMath.interpolatedSin(angle) + QMath.interpolatedCos(angle);
+            }
+            return sum;
+        });
+        double nearestError = 0, interpolatedError = 0;
+        for (double angle : angles) {
+            double exact = Math.sin(Math.toRadians(angle));
+            nearestError = Math.max(nearestError, Math.abs(QMath.sin(angle) - exact));
+            interpolatedError = Math.max(interpolatedError, Math.abs(QMath.interpolatedSin(angle) - exact));
+        }
+        GameDebugger.console(String.format("Max error: nearest %.3e, interpolated %.3e", nearestError, interpolatedError));
+    }
+
+}
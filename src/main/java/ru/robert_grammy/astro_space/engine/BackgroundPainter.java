@@ -0,0 +1,12 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.*;
+
+public interface BackgroundPainter extends Painter {
+
+    void paintBackground(RenderItem item, double interpolation);
+
+    @Override
+    default void paint(Graphics2D graphics, RenderItem item, double interpolation) {}
+
+}
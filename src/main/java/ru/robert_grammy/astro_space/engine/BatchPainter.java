@@ -0,0 +1,9 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.*;
+
+public interface BatchPainter extends Painter {
+
+    void paint(Graphics2D graphics, RenderSnapshot snapshot, int from, int to, double interpolation);
+
+}
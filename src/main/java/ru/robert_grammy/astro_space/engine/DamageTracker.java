@@ -0,0 +1,224 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class DamageTracker {
+
+    public static final double DEFAULT_FULL_REDRAW_THRESHOLD = 0.4;
+    private static final int MAX_REGIONS = 8;
+    private static final double REGION_MARGIN = 2;
+    private static final Comparator<Damage> BY_SIGNATURE = Comparator.comparingLong(damage -> damage.signature);
+    private final double width;
+    private final double height;
+    private final double fullRedrawThreshold;
+    private final List<Rectangle2D.Double> regions = new ArrayList<>();
+    private List<Damage> damages = new ArrayList<>();
+    private List<Damage> previousDamages = new ArrayList<>();
+    private int damageCount = 0;
+    private int previousDamageCount = 0;
+    private int regionCount = 0;
+    private boolean fullRedraw = true;
+
+    public DamageTracker(double width, double height) {
+        this(width, height, DEFAULT_FULL_REDRAW_THRESHOLD);
+    }
+
+    public DamageTracker(double width, double height, double fullRedrawThreshold) {
+        this.width = width;
+        this.height = height;
+        this.fullRedrawThreshold = fullRedrawThreshold;
+    }
+
+    public void track(RenderSnapshot snapshot, double interpolation) {
+        List<Damage> swap = previousDamages;
+        previousDamages = damages;
+        previousDamageCount = damageCount;
+        damages = swap;
+        damageCount = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            RenderItem item = snapshot.get(i);
+            if (damageCount == damages.size()) damages.add(new Damage());
+            damages.get(damageCount++).set(item, interpolation);
+        }
+        damages.subList(0, damageCount).sort(BY_SIGNATURE);
+        int current = 0, previous = 0;
+        while (current < damageCount || previous < previousDamageCount) {
+            long currentSignature = current < damageCount ? damages.get(current).signature : Long.MAX_VALUE;
+            long previousSignature = previous < previousDamageCount ? previousDamages.get(previous).signature : Long.MAX_VALUE;
+            if (current < damageCount && previous < previousDamageCount && currentSignature == previousSignature) {
+                Damage currentDamage = damages.get(current++), previousDamage = previousDamages.get(previous++);
+                if (currentDamage.matches(previousDamage)) continue;
+                damage(currentDamage);
+                damage(previousDamage);
+            } else if (previous >= previousDamageCount || (current < damageCount && currentSignature < previousSignature)) {
+                damage(damages.get(current++));
+            } else {
+                damage(previousDamages.get(previous++));
+            }
+        }
+    }
+
+    private void damage(Damage damage) {
+        if (damage.radius <= 0) {
+            invalidate();
+            return;
+        }
+        damage(damage.x - damage.radius, damage.y - damage.radius, damage.radius * 2, damage.radius * 2);
+    }
+
+    public void damage(Rectangle2D region) {
+        damage(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+    }
+
+    public void damage(double x, double y, double width, double height) {
+        if (fullRedraw) return;
+        double left = Math.max(0, x - REGION_MARGIN), top = Math.max(0, y - REGION_MARGIN);
+        double right = Math.min(this.width, x + width + REGION_MARGIN), bottom = Math.min(this.height, y + height + REGION_MARGIN);
+        if (left >= right || top >= bottom) return;
+        if (regionCount == regions.size()) regions.add(new Rectangle2D.Double());
+        Rectangle2D.Double region = regions.get(regionCount++);
+        region.setFrameFromDiagonal(left, top, right, bottom);
+        mergeOverlapping();
+        if (regionCount > MAX_REGIONS) mergeClosest();
+        if (getDamagedArea() > this.width * this.height * fullRedrawThreshold) invalidate();
+    }
+
+    private void mergeOverlapping() {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < regionCount && !merged; i++) {
+                for (int j = i + 1; j < regionCount && !merged; j++) {
+                    if (!regions.get(i).intersects(regions.get(j))) continue;
+                    merge(i, j);
+                    merged = true;
+                }
+            }
+        }
+    }
+
+    private void mergeClosest() {
+        int first = 0, second = 1;
+        double smallestGrowth = Double.MAX_VALUE;
+        for (int i = 0; i < regionCount; i++) {
+            for (int j = i + 1; j < regionCount; j++) {
+                Rectangle2D.Double a = regions.get(i), b = regions.get(j);
+                Rectangle2D union = a.createUnion(b);
+                double growth = union.getWidth() * union.getHeight() - a.width * a.height - b.width * b.height;
+                if (growth >= smallestGrowth) continue;
+                smallestGrowth = growth;
+                first = i;
+                second = j;
+            }
+        }
+        merge(first, second);
+        mergeOverlapping();
+    }
+
+    private void merge(int first, int second) {
+        Rectangle2D.union(regions.get(first), regions.get(second), regions.get(first));
+        Rectangle2D.Double last = regions.get(--regionCount);
+        regions.set(regionCount, regions.get(second));
+        regions.set(second, last);
+    }
+
+    private double getDamagedArea() {
+        double area = 0;
+        for (int i = 0; i < regionCount; i++) {
+            area += regions.get(i).width * regions.get(i).height;
+        }
+        return area;
+    }
+
+    public void invalidate() {
+        fullRedraw = true;
+        regionCount = 0;
+    }
+
+    public void reset() {
+        fullRedraw = false;
+        regionCount = 0;
+    }
+
+    public boolean isFullRedraw() {
+        return fullRedraw;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    public Rectangle2D getRegion(int index) {
+        return regions.get(index);
+    }
+
+    private static class Damage {
+
+        private long signature;
+        private Painter painter;
+        private int zIndex;
+        private double x, y;
+        private double rotation;
+        private double scale;
+        private double size;
+        private double radius;
+        private int hexColor;
+        private int variant;
+        private Color fillColor;
+        private Color lineColor;
+        private Object source;
+
+        private void set(RenderItem item, double interpolation) {
+            painter = item.getPainter();
+            zIndex = item.getZIndex();
+            x = item.getX(interpolation);
+            y = item.getY(interpolation);
+            rotation = item.getRotation(interpolation);
+            scale = item.getScale();
+            size = item.getSize();
+            radius = item.getBoundingRadius();
+            hexColor = item.getHexColor();
+            variant = item.getVariant();
+            fillColor = item.getFillColor();
+            lineColor = item.getLineColor();
+            source = item.getSource();
+            long hash = System.identityHashCode(painter);
+            hash = hash * 31 + zIndex;
+            hash = hash * 31 + Double.hashCode(x);
+            hash = hash * 31 + Double.hashCode(y);
+            hash = hash * 31 + Double.hashCode(rotation);
+            hash = hash * 31 + Double.hashCode(scale);
+            hash = hash * 31 + Double.hashCode(size);
+            hash = hash * 31 + Double.hashCode(radius);
+            hash = hash * 31 + hexColor;
+            hash = hash * 31 + variant;
+            hash = hash * 31 + Objects.hashCode(fillColor);
+            hash = hash * 31 + Objects.hashCode(lineColor);
+            hash = hash * 31 + System.identityHashCode(source);
+            signature = hash;
+        }
+
+        private boolean matches(Damage other) {
+            return painter == other.painter
+                    && zIndex == other.zIndex
+                    && Double.compare(x, other.x) == 0
+                    && Double.compare(y, other.y) == 0
+                    && Double.compare(rotation, other.rotation) == 0
+                    && Double.compare(scale, other.scale) == 0
+                    && Double.compare(size, other.size) == 0
+                    && Double.compare(radius, other.radius) == 0
+                    && hexColor == other.hexColor
+                    && variant == other.variant
+                    && Objects.equals(fillColor, other.fillColor)
+                    && Objects.equals(lineColor, other.lineColor)
+                    && source == other.source;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class EntityBucket<T> implements Iterable<T> {
+
+    private final Class<T> type;
+    private final List<T> entities = new ArrayList<>();
+    private final Map<T, Integer> indices = new IdentityHashMap<>();
+
+    EntityBucket(Class<T> type) {
+        this.type = type;
+    }
+
+    boolean add(Object entity) {
+        T typed = type.cast(entity);
+        if (indices.containsKey(typed)) return false;
+        indices.put(typed, entities.size());
+        entities.add(typed);
+        return true;
+    }
+
+    boolean remove(Object entity) {
+        Integer index = indices.remove(type.cast(entity));
+        if (index == null) return false;
+        int lastIndex = entities.size() - 1;
+        T last = entities.remove(lastIndex);
+        if (index != lastIndex) {
+            entities.set(index, last);
+            indices.put(last, index);
+        }
+        return true;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    public boolean isEmpty() {
+        return entities.isEmpty();
+    }
+
+    public T get(int index) {
+        return entities.get(index);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < entities.size(); i++) {
+            action.accept(entities.get(i));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return entities.iterator();
+    }
+
+}
@@ -0,0 +1,71 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EntityRegistry {
+
+    private final Map<Class<?>, EntityBucket<?>> buckets = new HashMap<>();
+    private final List<EntityBucket<?>> updatableBuckets = new ArrayList<>();
+    private final List<Command> pendingCommands = new ArrayList<>();
+    private final List<Listener> listeners = new ArrayList<>();
+
+    public void add(Object entity) {
+        pendingCommands.add(new Command(entity, false));
+    }
+
+    public void remove(Object entity) {
+        pendingCommands.add(new Command(entity, true));
+    }
+
+    public void flush() {
+        for (int i = 0; i < pendingCommands.size(); i++) {
+            Command command = pendingCommands.get(i);
+            EntityBucket<?> bucket = getOrCreateBucket(command.entity().getClass());
+            if (command.removal()) {
+                if (bucket.remove(command.entity())) listeners.forEach(listener -> listener.removed(command.entity()));
+            } else {
+                if (bucket.add(command.entity())) listeners.forEach(listener -> listener.added(command.entity()));
+            }
+        }
+        pendingCommands.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> EntityBucket<T> bucket(Class<T> type) {
+        return (EntityBucket<T>) getOrCreateBucket(type);
+    }
+
+    public void updateAll() {
+        for (int i = 0; i < updatableBuckets.size(); i++) {
+            updatableBuckets.get(i).forEach(entity -> ((Updatable) entity).update());
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private <T> EntityBucket<?> getOrCreateBucket(Class<T> type) {
+        EntityBucket<?> bucket = buckets.get(type);
+        if (bucket == null) {
+            bucket = new EntityBucket<>(type);
+            buckets.put(type, bucket);
+            if (Updatable.class.isAssignableFrom(type)) updatableBuckets.add(bucket);
+        }
+        return bucket;
+    }
+
+    public interface Listener {
+
+        void added(Object entity);
+
+        void removed(Object entity);
+
+    }
+
+    private record Command(Object entity, boolean removal) {}
+
+}
@@ -0,0 +1,202 @@
+package ru.robert_grammy.astro_space.engine;
+
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.util.Arrays;
+
+public class EntityStore {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int NO_SLOT = -1;
+    private Handle[] handles;
+    private double[] x, y;
+    private double[] previousX, previousY;
+    private double[] velocityX, velocityY;
+    private double[] rotation, previousRotation, rotationSpeed;
+    private double[] mobility;
+    private double[] size;
+    private int[] health;
+    private int count;
+
+    public EntityStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EntityStore(int capacity) {
+        resize(Math.max(1, capacity));
+    }
+
+    public int allocate(Handle handle) {
+        if (count == handles.length) resize(handles.length * 2);
+        int slot = count++;
+        handles[slot] = handle;
+        x[slot] = y[slot] = 0;
+        previousX[slot] = previousY[slot] = 0;
+        velocityX[slot] = velocityY[slot] = 0;
+        rotation[slot] = previousRotation[slot] = rotationSpeed[slot] = 0;
+        mobility[slot] = 1;
+        size[slot] = 0;
+        health[slot] = 0;
+        handle.setSlot(slot);
+        return slot;
+    }
+
+    public void release(Handle handle) {
+        int slot = handle.getSlot();
+        if (slot == NO_SLOT || slot >= count || handles[slot] != handle) return;
+        int last = --count;
+        if (slot != last) {
+            handles[slot] = handles[last];
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            velocityX[slot] = velocityX[last];
+            velocityY[slot] = velocityY[last];
+            rotation[slot] = rotation[last];
+            previousRotation[slot] = previousRotation[last];
+            rotationSpeed[slot] = rotationSpeed[last];
+            mobility[slot] = mobility[last];
+            size[slot] = size[last];
+            health[slot] = health[last];
+            handles[slot].setSlot(slot);
+        }
+        handles[last] = null;
+        handle.setSlot(NO_SLOT);
+    }
+
+    public void savePrevious() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+        System.arraycopy(rotation, 0, previousRotation, 0, count);
+    }
+
+    public void integrate() {
+        for (int i = 0; i < count; i++) {
+            x[i] += velocityX[i] * mobility[i];
+            y[i] += velocityY[i] * mobility[i];
+        }
+        for (int i = 0; i < count; i++) {
+            if (mobility[i] == 0 || rotationSpeed[i] == 0) continue;
+            rotation[i] = QMath.normalizeDegree(rotation[i] + rotationSpeed[i]);
+        }
+    }
+
+    private void resize(int capacity) {
+        handles = handles == null ? new Handle[capacity] : Arrays.copyOf(handles, capacity);
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        previousX = grow(previousX, capacity);
+        previousY = grow(previousY, capacity);
+        velocityX = grow(velocityX, capacity);
+        velocityY = grow(velocityY, capacity);
+        rotation = grow(rotation, capacity);
+        previousRotation = grow(previousRotation, capacity);
+        rotationSpeed = grow(rotationSpeed, capacity);
+        mobility = grow(mobility, capacity);
+        size = grow(size, capacity);
+        health = health == null ? new int[capacity] : Arrays.copyOf(health, capacity);
+    }
+
+    private static double[] grow(double[] column, int capacity) {
+        return column == null ? new double[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Handle getHandle(int slot) {
+        return handles[slot];
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    public double getPreviousX(int slot) {
+        return previousX[slot];
+    }
+
+    public double getPreviousY(int slot) {
+        return previousY[slot];
+    }
+
+    public void setPosition(int slot, double x, double y) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+    }
+
+    public void snapPosition(int slot, double x, double y) {
+        setPosition(slot, x, y);
+        previousX[slot] = x;
+        previousY[slot] = y;
+    }
+
+    public double getVelocityX(int slot) {
+        return velocityX[slot];
+    }
+
+    public double getVelocityY(int slot) {
+        return velocityY[slot];
+    }
+
+    public double getSpeed(int slot) {
+        return Math.sqrt(velocityX[slot] * velocityX[slot] + velocityY[slot] * velocityY[slot]);
+    }
+
+    public void setVelocity(int slot, double x, double y) {
+        velocityX[slot] = x;
+        velocityY[slot] = y;
+    }
+
+    public double getRotation(int slot) {
+        return rotation[slot];
+    }
+
+    public double getPreviousRotation(int slot) {
+        return previousRotation[slot];
+    }
+
+    public void snapRotation(int slot, double degree) {
+        rotation[slot] = degree;
+        previousRotation[slot] = degree;
+    }
+
+    public void setRotationSpeed(int slot, double speed) {
+        rotationSpeed[slot] = speed;
+    }
+
+    public void setMoving(int slot, boolean moving) {
+        mobility[slot] = moving ? 1 : 0;
+    }
+
+    public double getSize(int slot) {
+        return size[slot];
+    }
+
+    public void setSize(int slot, double size) {
+        this.size[slot] = size;
+    }
+
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    public void setHealth(int slot, int health) {
+        this.health[slot] = health;
+    }
+
+    public interface Handle {
+
+        int getSlot();
+
+        void setSlot(int slot);
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.event.KeyEvent;
+
+@FunctionalInterface
+public interface InputScript {
+
+    InputScript IDLE = (tick, keyboard) -> {};
+
+    InputScript DEMO = (tick, keyboard) -> {
+        keyboard.set(KeyEvent.VK_SPACE, tick % 2 == 0);
+        keyboard.set(KeyEvent.VK_LEFT, tick % 240 < 120);
+        keyboard.set(KeyEvent.VK_RIGHT, tick % 240 >= 180);
+        keyboard.set(KeyEvent.VK_UP, tick % 90 < 30);
+        keyboard.set(KeyEvent.VK_R, tick % 60 == 0);
+    };
+
+    void apply(long tick, Keyboard keyboard);
+
+}
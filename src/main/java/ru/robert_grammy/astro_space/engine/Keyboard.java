@@ -9,19 +9,42 @@ public class Keyboard implements KeyListener {
 
     private final Set<Integer> pressedKeys = new HashSet<>();
     private final Set<Integer> memorizedKeys = new HashSet<>();
+    private Runnable changeListener = () -> {};
 
     @Override
     public void keyTyped(KeyEvent e) {}
 
     @Override
     public void keyPressed(KeyEvent e) {
-        pressedKeys.add(e.getKeyCode());
+        press(e.getKeyCode());
+        changeListener.run();
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        pressedKeys.remove(e.getKeyCode());
-        memorizedKeys.remove(e.getKeyCode());
+        release(e.getKeyCode());
+        changeListener.run();
+    }
+
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    public void press(int keyCode) {
+        pressedKeys.add(keyCode);
+    }
+
+    public void release(int keyCode) {
+        pressedKeys.remove(keyCode);
+        memorizedKeys.remove(keyCode);
+    }
+
+    public void set(int keyCode, boolean pressed) {
+        if (pressed) {
+            press(keyCode);
+        } else {
+            release(keyCode);
+        }
     }
 
     public boolean pressed(int keyCode) {
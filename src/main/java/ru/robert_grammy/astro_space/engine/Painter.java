@@ -0,0 +1,10 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.*;
+
+@FunctionalInterface
+public interface Painter {
+
+    void paint(Graphics2D graphics, RenderItem item, double interpolation);
+
+}
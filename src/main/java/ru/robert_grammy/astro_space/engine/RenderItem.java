@@ -0,0 +1,181 @@
+package ru.robert_grammy.astro_space.engine;
+
+import ru.robert_grammy.astro_space.engine.geometry.Vector;
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.awt.*;
+
+public class RenderItem {
+
+    private Painter painter;
+    private int zIndex;
+    private double x, y;
+    private double previousX, previousY;
+    private double rotation, previousRotation;
+    private double scale;
+    private double size;
+    private double boundingRadius;
+    private boolean culled;
+    private boolean drawn;
+    private int hexColor;
+    private int variant;
+    private Color fillColor;
+    private Color lineColor;
+    private Object source;
+
+    void reset(Painter painter, int zIndex) {
+        this.painter = painter;
+        this.zIndex = zIndex;
+        x = y = previousX = previousY = 0;
+        rotation = previousRotation = 0;
+        scale = 1;
+        size = 0;
+        boundingRadius = 0;
+        culled = false;
+        drawn = false;
+        hexColor = 0;
+        variant = 0;
+        fillColor = null;
+        lineColor = null;
+        source = null;
+    }
+
+    void paint(Graphics2D graphics, double interpolation) {
+        painter.paint(graphics, this, interpolation);
+    }
+
+    public Painter getPainter() {
+        return painter;
+    }
+
+    public RenderItem setPosition(Vector previous, Vector current) {
+        return setPosition(previous.getX(), previous.getY(), current.getX(), current.getY());
+    }
+
+    public RenderItem setPosition(double previousX, double previousY, double x, double y) {
+        this.previousX = previousX;
+        this.previousY = previousY;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public RenderItem setPosition(double x, double y) {
+        this.x = previousX = x;
+        this.y = previousY = y;
+        return this;
+    }
+
+    public RenderItem setRotation(double previous, double current) {
+        previousRotation = previous;
+        rotation = current;
+        return this;
+    }
+
+    public RenderItem setScale(double scale) {
+        this.scale = scale;
+        return this;
+    }
+
+    public RenderItem setSize(double size) {
+        this.size = size;
+        return this;
+    }
+
+    public RenderItem setBoundingRadius(double boundingRadius) {
+        this.boundingRadius = boundingRadius;
+        return this;
+    }
+
+    public RenderItem setHexColor(int hexColor) {
+        this.hexColor = hexColor;
+        return this;
+    }
+
+    public RenderItem setVariant(int variant) {
+        this.variant = variant;
+        return this;
+    }
+
+    public RenderItem setColors(Color fillColor, Color lineColor) {
+        this.fillColor = fillColor;
+        this.lineColor = lineColor;
+        return this;
+    }
+
+    public RenderItem setSource(Object source) {
+        this.source = source;
+        return this;
+    }
+
+    public int getZIndex() {
+        return zIndex;
+    }
+
+    public double getX(double interpolation) {
+        return previousX + (x - previousX) * interpolation;
+    }
+
+    public double getY(double interpolation) {
+        return previousY + (y - previousY) * interpolation;
+    }
+
+    public double getRotation(double interpolation) {
+        return QMath.interpolateDegree(previousRotation, rotation, interpolation);
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public double getSize() {
+        return size;
+    }
+
+    public double getBoundingRadius() {
+        return boundingRadius;
+    }
+
+    boolean intersects(double left, double top, double right, double bottom, double interpolation) {
+        if (boundingRadius <= 0) return true;
+        double x = getX(interpolation), y = getY(interpolation);
+        return x + boundingRadius >= left && y + boundingRadius >= top && x - boundingRadius <= right && y - boundingRadius <= bottom;
+    }
+
+    boolean isCulled() {
+        return culled;
+    }
+
+    void setCulled(boolean culled) {
+        this.culled = culled;
+    }
+
+    boolean isDrawn() {
+        return drawn;
+    }
+
+    void setDrawn(boolean drawn) {
+        this.drawn = drawn;
+    }
+
+    public int getHexColor() {
+        return hexColor;
+    }
+
+    public int getVariant() {
+        return variant;
+    }
+
+    public Color getFillColor() {
+        return fillColor;
+    }
+
+    public Color getLineColor() {
+        return lineColor;
+    }
+
+    public Object getSource() {
+        return source;
+    }
+
+}
@@ -0,0 +1,64 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+public class RenderQueue {
+
+    private final NavigableMap<Integer, Set<Renderable>> layers = new TreeMap<>();
+    private final List<Set<Renderable>> orderedLayers = new ArrayList<>();
+    private final Map<Renderable, Integer> zIndices = new IdentityHashMap<>();
+
+    public void add(Renderable renderable) {
+        if (zIndices.containsKey(renderable)) return;
+        int zIndex = renderable.getZIndex();
+        zIndices.put(renderable, zIndex);
+        getOrCreateLayer(zIndex).add(renderable);
+    }
+
+    public void remove(Renderable renderable) {
+        Integer zIndex = zIndices.remove(renderable);
+        if (zIndex == null) return;
+        layers.get(zIndex).remove(renderable);
+    }
+
+    public void reorder(Renderable renderable) {
+        Integer zIndex = zIndices.get(renderable);
+        if (zIndex == null || zIndex == renderable.getZIndex()) return;
+        remove(renderable);
+        add(renderable);
+    }
+
+    public void forEach(Consumer<Renderable> action) {
+        for (int i = 0; i < orderedLayers.size(); i++) {
+            Set<Renderable> layer = orderedLayers.get(i);
+            if (layer.isEmpty()) continue;
+            for (Renderable renderable : layer) {
+                action.accept(renderable);
+            }
+        }
+    }
+
+    public int size() {
+        return zIndices.size();
+    }
+
+    private Set<Renderable> getOrCreateLayer(int zIndex) {
+        Set<Renderable> layer = layers.get(zIndex);
+        if (layer == null) {
+            layer = new LinkedHashSet<>();
+            layers.put(zIndex, layer);
+            orderedLayers.clear();
+            orderedLayers.addAll(layers.values());
+        }
+        return layer;
+    }
+
+}
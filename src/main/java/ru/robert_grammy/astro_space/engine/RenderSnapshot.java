@@ -0,0 +1,104 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RenderSnapshot {
+
+    private final List<RenderItem> items = new ArrayList<>();
+    private int size = 0;
+    private int drawnCount = 0;
+    private volatile long sequence = 0;
+
+    public RenderItem add(Painter painter, int zIndex) {
+        if (size == items.size()) items.add(new RenderItem());
+        RenderItem item = items.get(size++);
+        item.reset(painter, zIndex);
+        return item;
+    }
+
+    public void clear() {
+        size = 0;
+        drawnCount = 0;
+    }
+
+    public void resetDrawn() {
+        drawnCount = 0;
+        for (int i = 0; i < size; i++) {
+            items.get(i).setDrawn(false);
+        }
+    }
+
+    public void cull(double width, double height, double interpolation) {
+        cull(0, 0, width, height, interpolation);
+    }
+
+    public void cull(Rectangle2D region, double interpolation) {
+        cull(region.getMinX(), region.getMinY(), region.getMaxX(), region.getMaxY(), interpolation);
+    }
+
+    private void cull(double left, double top, double right, double bottom, double interpolation) {
+        for (int i = 0; i < size; i++) {
+            RenderItem item = items.get(i);
+            boolean culled = !item.intersects(left, top, right, bottom, interpolation);
+            item.setCulled(culled);
+            if (culled || item.isDrawn()) continue;
+            item.setDrawn(true);
+            drawnCount++;
+        }
+    }
+
+    public void paintBackground(double interpolation) {
+        for (int i = 0; i < size; i++) {
+            RenderItem item = items.get(i);
+            if (item.getPainter() instanceof BackgroundPainter) ((BackgroundPainter) item.getPainter()).paintBackground(item, interpolation);
+        }
+    }
+
+    public void paint(Graphics2D graphics, double interpolation) {
+        int i = 0;
+        while (i < size) {
+            RenderItem item = items.get(i);
+            if (item.isCulled()) {
+                i++;
+                continue;
+            }
+            if (!(item.getPainter() instanceof BatchPainter)) {
+                item.paint(graphics, interpolation);
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < size && items.get(end).getPainter() == item.getPainter() && !items.get(end).isCulled()) end++;
+            ((BatchPainter) item.getPainter()).paint(graphics, this, i, end, interpolation);
+            i = end;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCulledCount() {
+        return size - drawnCount;
+    }
+
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    public RenderItem get(int index) {
+        return items.get(index);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+}
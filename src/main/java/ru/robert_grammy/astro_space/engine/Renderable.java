@@ -1,10 +1,8 @@
 package ru.robert_grammy.astro_space.engine;
 
-import java.awt.*;
-
 public interface Renderable {
 
-    void render(Graphics2D graphics);
+    void capture(RenderSnapshot snapshot);
 
     int getZIndex();
 
@@ -0,0 +1,35 @@
+package ru.robert_grammy.astro_space.engine;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class SnapshotExchange<T extends RenderSnapshot> {
+
+    private final AtomicReference<T> ready;
+    private T back;
+    private T front;
+    private long published = 0;
+
+    public SnapshotExchange(Supplier<T> factory) {
+        ready = new AtomicReference<>(factory.get());
+        back = factory.get();
+        front = factory.get();
+    }
+
+    public T getBackBuffer() {
+        return back;
+    }
+
+    public void publish() {
+        back.setSequence(++published);
+        back = ready.getAndSet(back);
+    }
+
+    public T acquire() {
+        if (ready.get().getSequence() > front.getSequence()) {
+            front = ready.getAndSet(front);
+        }
+        return front;
+    }
+
+}
@@ -0,0 +1,58 @@
+package ru.robert_grammy.astro_space.engine.geometry;
+
+public final class Segments {
+
+    private static final double AROUND_ZERO = 0.00000000001;
+
+    private Segments() {}
+
+    public static double orientation(double ax, double ay, double bx, double by, double px, double py) {
+        double value = (bx - ax) * (py - ay) - (by - ay) * (px - ax);
+        return Math.abs(value) <= AROUND_ZERO ? 0 : value;
+    }
+
+    public static boolean isParallel(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+        return Math.abs(cross(bx - ax, by - ay, dx - cx, dy - cy)) <= AROUND_ZERO;
+    }
+
+    public static double intersectionT(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+        double denominator = cross(bx - ax, by - ay, dx - cx, dy - cy);
+        if (Math.abs(denominator) <= AROUND_ZERO) return Double.NaN;
+        return cross(cx - ax, cy - ay, dx - cx, dy - cy) / denominator;
+    }
+
+    public static double intersectionU(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+        double denominator = cross(bx - ax, by - ay, dx - cx, dy - cy);
+        if (Math.abs(denominator) <= AROUND_ZERO) return Double.NaN;
+        return cross(cx - ax, cy - ay, bx - ax, by - ay) / denominator;
+    }
+
+    public static boolean intersects(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+        double denominator = cross(bx - ax, by - ay, dx - cx, dy - cy);
+        if (Math.abs(denominator) <= AROUND_ZERO) {
+            if (orientation(ax, ay, bx, by, cx, cy) != 0) return false;
+            return inBounds(ax, ay, bx, by, cx, cy) || inBounds(ax, ay, bx, by, dx, dy) || inBounds(cx, cy, dx, dy, ax, ay) || inBounds(cx, cy, dx, dy, bx, by);
+        }
+        double t = cross(cx - ax, cy - ay, dx - cx, dy - cy) / denominator;
+        double u = cross(cx - ax, cy - ay, bx - ax, by - ay) / denominator;
+        return t >= -AROUND_ZERO && t <= 1 + AROUND_ZERO && u >= -AROUND_ZERO && u <= 1 + AROUND_ZERO;
+    }
+
+    public static double distanceToPoint(double ax, double ay, double bx, double by, double px, double py) {
+        double abx = bx - ax, aby = by - ay;
+        double lengthSquared = abx * abx + aby * aby;
+        double t = lengthSquared <= AROUND_ZERO ? 0 : ((px - ax) * abx + (py - ay) * aby) / lengthSquared;
+        t = Math.min(Math.max(t, 0), 1);
+        double x = ax + abx * t - px, y = ay + aby * t - py;
+        return Math.sqrt(x * x + y * y);
+    }
+
+    private static double cross(double ax, double ay, double bx, double by) {
+        return ax * by - ay * bx;
+    }
+
+    private static boolean inBounds(double ax, double ay, double bx, double by, double px, double py) {
+        return px >= Math.min(ax, bx) - AROUND_ZERO && px <= Math.max(ax, bx) + AROUND_ZERO && py >= Math.min(ay, by) - AROUND_ZERO && py <= Math.max(ay, by) + AROUND_ZERO;
+    }
+
+}
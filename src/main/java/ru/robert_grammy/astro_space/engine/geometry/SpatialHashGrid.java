@@ -0,0 +1,65 @@
+package ru.robert_grammy.astro_space.engine.geometry;
+
+import java.util.*;
+
+public class SpatialHashGrid<T> {
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<List<T>> cells;
+    private final List<T> result = new ArrayList<>();
+    private final Set<T> resultSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public SpatialHashGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < cells.size(); i++) {
+            cells.get(i).clear();
+        }
+    }
+
+    public void insert(T item, double x, double y, double radius) {
+        int left = column(x - radius), right = column(x + radius);
+        int top = row(y - radius), bottom = row(y + radius);
+        for (int row = top; row <= bottom; row++) {
+            for (int column = left; column <= right; column++) {
+                cells.get(row * columns + column).add(item);
+            }
+        }
+    }
+
+    public List<T> query(double x1, double y1, double x2, double y2) {
+        result.clear();
+        resultSet.clear();
+        int left = column(Math.min(x1, x2)), right = column(Math.max(x1, x2));
+        int top = row(Math.min(y1, y2)), bottom = row(Math.max(y1, y2));
+        for (int row = top; row <= bottom; row++) {
+            for (int column = left; column <= right; column++) {
+                List<T> cell = cells.get(row * columns + column);
+                for (int i = 0; i < cell.size(); i++) {
+                    T item = cell.get(i);
+                    if (resultSet.add(item)) result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+
+}
@@ -28,7 +28,7 @@ public class StraightLine {
     }
 
     public StraightLine getNormalLineFromPoint(Vector point) {
-        Vector pointOnLine = new Vector(xFromY(Vector.getZero()), yFromX(Vector.getZero()));
+        Vector pointOnLine = new Vector(xFromY(0, 0), yFromX(0, 0));
         Vector normal = new Vector(-pointOnLine.getY(), pointOnLine.getX());
         Vector extra = point.clone().add(normal);
         return new StraightLine(point, extra);
@@ -64,13 +64,21 @@ public class StraightLine {
     }
 
     private double xFromY(Vector point) {
-        if (isHorizontal()) return point.getX();
-        return (b * point.getY() + c) / -a;
+        return xFromY(point.getX(), point.getY());
+    }
+
+    private double xFromY(double x, double y) {
+        if (isHorizontal()) return x;
+        return (b * y + c) / -a;
     }
 
     private double yFromX(Vector point) {
-        if (isVertical()) return point.getY();
-        return (a * point.getX() + c) / -b;
+        return yFromX(point.getX(), point.getY());
+    }
+
+    private double yFromX(double x, double y) {
+        if (isVertical()) return y;
+        return (a * x + c) / -b;
     }
 
     public Vector getGuideVector() {
@@ -128,20 +136,7 @@ public class StraightLine {
     }
 
     public double distanceFromSegmentToPoint(Vector point) {
-        Vector ab = new Vector((pointB.getX() - pointA.getX()), (pointB.getY() - pointA.getY()));
-        Vector ah = new Vector((point.getX() - pointA.getX()), (point.getY() - pointA.getY()));
-        double product = ab.getProduct(ah);
-        double leftX = Math.min(pointA.getX(), pointB.getX());
-        double rightX = Math.max(pointA.getX(), pointB.getX());
-        double upY = Math.min(pointA.getY(), pointB.getY());
-        double downY = Math.max(pointA.getY(), pointB.getY());
-        Vector projection = getPointProjectionOnLine(point);
-        if (product == 0 || (projection.getX() < leftX || projection.getX() > rightX) || (projection.getY() < upY || projection.getY() > downY)) {
-            Vector bh = new Vector((point.getX() - pointB.getX()), (point.getY() - pointB.getY()));
-            return Math.min(ah.length(), bh.length());
-        } else {
-            return Math.abs(product) / ab.length();
-        }
+        return Segments.distanceToPoint(pointA.getX(), pointA.getY(), pointB.getX(), pointB.getY(), point.getX(), point.getY());
     }
 
     public double distanceFromLineToPoint(Vector point) {
@@ -23,7 +23,9 @@ public class Vector implements Cloneable {
     }
 
     public Vector add(double x, double y) {
-        return add(new Vector(x,y));
+        this.x += x;
+        this.y += y;
+        return this;
     }
 
     public Vector subtract(Vector vector) {
@@ -33,7 +35,9 @@ public class Vector implements Cloneable {
     }
 
     public Vector subtract(double x, double y) {
-        return subtract(new Vector(x,y));
+        this.x -= x;
+        this.y -= y;
+        return this;
     }
 
     public Vector multiply(double scale) {
@@ -69,10 +73,22 @@ public class Vector implements Cloneable {
         return this;
     }
 
-    @SuppressWarnings("SuspiciousNameCombination")
+    public Vector rotate(double degree) {
+        double x = this.x;
+        double y = this.y;
+        double sin = QMath.sin(degree);
+        double cos = QMath.cos(degree);
+        this.x = x * cos - y * sin;
+        this.y = x * sin + y * cos;
+        return this;
+    }
+
     public Vector fromBasis(Vector xBasisVector) {
-        Vector yBasisVector = new Vector(-xBasisVector.y, xBasisVector.x);
-        return xBasisVector.multiply(x).add(yBasisVector.multiply(y));
+        double x = this.x;
+        double y = this.y;
+        this.x = xBasisVector.x * x + -xBasisVector.y * y;
+        this.y = xBasisVector.y * x + xBasisVector.x * y;
+        return this;
     }
 
     public double getX() {
@@ -91,6 +107,29 @@ public class Vector implements Cloneable {
         this.y = y;
     }
 
+    public static Vector interpolate(Vector previous, Vector current, double interpolation) {
+        return interpolate(previous, current, interpolation, new Vector(0, 0));
+    }
+
+    public static Vector interpolate(Vector previous, Vector current, double interpolation, Vector result) {
+        return result.set(
+                previous.x + (current.x - previous.x) * interpolation,
+                previous.y + (current.y - previous.y) * interpolation
+        );
+    }
+
+    public static Vector add(Vector first, Vector second, Vector result) {
+        return result.set(first.x + second.x, first.y + second.y);
+    }
+
+    public static Vector subtract(Vector first, Vector second, Vector result) {
+        return result.set(first.x - second.x, first.y - second.y);
+    }
+
+    public static Vector multiply(Vector vector, double scale, Vector result) {
+        return result.set(vector.x * scale, vector.y * scale);
+    }
+
     public static Vector getZero() {
         return ZERO.clone();
     }
@@ -104,6 +143,12 @@ public class Vector implements Cloneable {
         return new Vector(x,y);
     }
 
+    public Vector set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
     public void setXY(Vector vector) {
         this.x = vector.x;
         this.y = vector.y;
@@ -0,0 +1,36 @@
+package ru.robert_grammy.astro_space.engine.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class VectorPool {
+
+    private final List<Vector> vectors = new ArrayList<>();
+    private int used;
+
+    public Vector obtain() {
+        return obtain(0, 0);
+    }
+
+    public Vector obtain(Vector source) {
+        return obtain(source.getX(), source.getY());
+    }
+
+    public Vector obtain(double x, double y) {
+        if (used == vectors.size()) vectors.add(new Vector(x, y));
+        return vectors.get(used++).set(x, y);
+    }
+
+    public void reset() {
+        used = 0;
+    }
+
+    public int getUsed() {
+        return used;
+    }
+
+    public int getCapacity() {
+        return vectors.size();
+    }
+
+}
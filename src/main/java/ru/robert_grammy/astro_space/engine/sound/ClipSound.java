@@ -0,0 +1,127 @@
+package ru.robert_grammy.astro_space.engine.sound;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import javax.sound.sampled.*;
+import java.io.IOException;
+
+class ClipSound implements Sound {
+
+    private AudioInputStream stream;
+    private Clip clip;
+    private FloatControl volumeControl;
+    private boolean playing = false;
+
+    ClipSound(AudioInputStream stream) {
+        try {
+            this.stream = stream;
+            clip = AudioSystem.getClip();
+            clip.open(stream);
+            clip.addLineListener(event -> {
+                if (event.getType() == LineEvent.Type.STOP) playing = false;
+            });
+            volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+        } catch (LineUnavailableException | IOException e) {
+            GameDebugger.console(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        clip.close();
+        stream.close();
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    @Override
+    public void play(boolean breakOld) {
+        if (breakOld) {
+            stopAndReset();
+        }
+        start();
+    }
+
+    @Override
+    public void play() {
+        play(true);
+    }
+
+    private void start() {
+        if (!playing) {
+            clip.start();
+            playing = true;
+        }
+    }
+
+    @Override
+    public int getClipPosition() {
+        return clip.getFramePosition();
+    }
+
+    @Override
+    public int getClipLength() {
+        return clip.getFrameLength();
+    }
+
+    @Override
+    public double getClipProgress() {
+        double length = clip.getFrameLength();
+        double position = clip.getFramePosition();
+        return position / length;
+    }
+
+    @Override
+    public boolean isEnded() {
+        return getClipPosition() == getClipLength();
+    }
+
+    @Override
+    public void loop() {
+        clip.loop(Clip.LOOP_CONTINUOUSLY);
+    }
+
+    @Override
+    public void loop(int count) {
+        clip.loop(count);
+    }
+
+    @Override
+    public void stop() {
+        clip.stop();
+        playing = false;
+    }
+
+    @Override
+    public void stopAndReset() {
+        clip.stop();
+        reset();
+        playing = false;
+    }
+
+    @Override
+    public void reset() {
+        clip.setFramePosition(0);
+    }
+
+    @Override
+    public void setVolume(float x) {
+        if (x<0) x = 0;
+        if (x>1) x = 1;
+        float min = volumeControl.getMinimum();
+        float max = volumeControl.getMaximum();
+        volumeControl.setValue((max-min)*x+min);
+    }
+
+    @Override
+    public float getVolume() {
+        float value = volumeControl.getValue();
+        float min = volumeControl.getMinimum();
+        float max = volumeControl.getMaximum();
+        return (value-min)/(max-min);
+    }
+
+}
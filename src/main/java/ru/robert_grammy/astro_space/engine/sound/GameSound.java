@@ -25,6 +25,7 @@ public enum GameSound {
 
     private static final String WAV_EXTENSION = ".wav";
     private static final String DIR = "assets/sound/";
+    private static final long PLAY_AFTER_POLL_INTERVAL = 20;
 
     private final String path = DIR + name().toLowerCase() + WAV_EXTENSION;
     private final Sound sound;
@@ -44,9 +45,10 @@ public enum GameSound {
     }
     
     public Sound getNewInstance() {
+        if (SoundBackend.current() == SoundBackend.SILENT) return new SilentSound();
         Sound sound = null;
         try {
-            sound = new Sound(getStream());
+            sound = new ClipSound(getStream());
         }  catch (UnsupportedAudioFileException | IOException e) {
             GameDebugger.console(e);
         }
@@ -56,8 +58,8 @@ public enum GameSound {
     public static Thread playAfter(Sound current, Sound next, int loop, boolean breakOld, long waitTime) {
         return new Thread(() -> {
             try {
-                while (!Thread.currentThread().isInterrupted() && !current.isEnded()) {
-                    Thread.onSpinWait();
+                while (!current.isEnded()) {
+                    Thread.sleep(PLAY_AFTER_POLL_INTERVAL);
                 }
                 Thread.sleep(waitTime);
                 next.loop(loop);
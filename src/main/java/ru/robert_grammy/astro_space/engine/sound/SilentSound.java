@@ -0,0 +1,68 @@
+package ru.robert_grammy.astro_space.engine.sound;
+
+class SilentSound implements Sound {
+
+    private float volume = 1;
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean isPlaying() {
+        return false;
+    }
+
+    @Override
+    public void play(boolean breakOld) {}
+
+    @Override
+    public void play() {}
+
+    @Override
+    public int getClipPosition() {
+        return 0;
+    }
+
+    @Override
+    public int getClipLength() {
+        return 0;
+    }
+
+    @Override
+    public double getClipProgress() {
+        return 1;
+    }
+
+    @Override
+    public boolean isEnded() {
+        return true;
+    }
+
+    @Override
+    public void loop() {}
+
+    @Override
+    public void loop(int count) {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void stopAndReset() {}
+
+    @Override
+    public void reset() {}
+
+    @Override
+    public void setVolume(float x) {
+        if (x<0) x = 0;
+        if (x>1) x = 1;
+        volume = x;
+    }
+
+    @Override
+    public float getVolume() {
+        return volume;
+    }
+
+}
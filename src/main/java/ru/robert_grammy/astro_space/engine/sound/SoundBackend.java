@@ -0,0 +1,18 @@
+package ru.robert_grammy.astro_space.engine.sound;
+
+public enum SoundBackend {
+
+    CLIP,
+    SILENT;
+
+    private static SoundBackend current = CLIP;
+
+    public static void use(SoundBackend backend) {
+        current = backend;
+    }
+
+    public static SoundBackend current() {
+        return current;
+    }
+
+}
@@ -1,21 +1,33 @@
 package ru.robert_grammy.astro_space.game;
 
-import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.DamageTracker;
+import ru.robert_grammy.astro_space.engine.EntityBucket;
+import ru.robert_grammy.astro_space.engine.EntityRegistry;
+import ru.robert_grammy.astro_space.engine.EntityStore;
 import ru.robert_grammy.astro_space.engine.Keyboard;
+import ru.robert_grammy.astro_space.engine.RenderQueue;
 import ru.robert_grammy.astro_space.engine.Renderable;
-import ru.robert_grammy.astro_space.engine.Updatable;
+import ru.robert_grammy.astro_space.engine.SnapshotExchange;
+import ru.robert_grammy.astro_space.engine.geometry.SpatialHashGrid;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
+import ru.robert_grammy.astro_space.engine.geometry.VectorPool;
 import ru.robert_grammy.astro_space.engine.sound.GameSound;
 import ru.robert_grammy.astro_space.game.asteroid.Asteroid;
 import ru.robert_grammy.astro_space.game.background.ParticleGenerator;
+import ru.robert_grammy.astro_space.game.player.Bullet;
 import ru.robert_grammy.astro_space.game.player.Player;
 import ru.robert_grammy.astro_space.game.powerup.PowerUp;
+import ru.robert_grammy.astro_space.graphics.BackgroundLayer;
+import ru.robert_grammy.astro_space.graphics.CanvasImage;
+import ru.robert_grammy.astro_space.graphics.FrameWindow;
+import ru.robert_grammy.astro_space.graphics.TextSprite;
 import ru.robert_grammy.astro_space.graphics.Window;
 import ru.robert_grammy.astro_space.utils.TimeManager;
+import ru.robert_grammy.astro_space.utils.WakeSignal;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.awt.font.TextLayout;
+import java.awt.geom.Rectangle2D;
 import java.util.*;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -28,6 +40,8 @@ public class Game {
     private static final String YOUR_SCORE = "Your score: %d. Press R to restart!";
     private static final String PAUSED = "PAUSED!";
     private static final String RESUME = "Press P to resume!";
+    private static final String BEST_SCORE_LABEL = "Best score: ";
+    private static final String SCORE_LABEL = "Score: ";
     private static final Font SMALL_FONT = new Font(Window.FONT_NAME, Font.PLAIN, 24);
     private static final Font MEDIUM_FONT = new Font(Window.FONT_NAME, Font.PLAIN, 32);
     private static final Font LARGE_FONT = new Font(Window.FONT_NAME, Font.PLAIN, 64);
@@ -41,83 +55,159 @@ public class Game {
     private static final int RESULT_BOARD_HEIGHT = 150;
     private static final int RESULT_BOARD_Y_OFFSET = 45;
     private static final int TEXT_INTERVAL = 5;
+    private static final int SCORE_BOARD_WIDTH = 250;
+    private static final int SCORE_BOARD_HEIGHT = 100;
+    private static final int ASTEROID_GRID_CELL_SIZE = 128;
+    private static final int HUD_MARGIN = 2;
+    private static final int MAX_FRAME_ATTEMPTS = 3;
     private final RenderThread render;
     private final UpdateThread update;
-    private final Window window = new Window();
-    private final Vector spawnPoint = new Vector((double) window.getBufferWidth() / 2,(double) window.getBufferHeight() / 2);
-    private final List<Renderable> renderables = new ArrayList<>();
-    private final List<Updatable> updatables = new ArrayList<>();
+    private final Window window;
+    private final Vector spawnPoint;
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final SpatialHashGrid<Asteroid> asteroidGrid;
+    private final VectorPool vectorPool = new VectorPool();
+    private final DamageTracker damageTracker;
+    private final Rectangle2D scoreBoard;
+    private final Rectangle2D resultBoard;
+    private final WakeSignal inputSignal = new WakeSignal();
+    private final WakeSignal frameSignal = new WakeSignal();
+    private final EntityStore asteroidStore = new EntityStore();
+    private final EntityStore bulletStore = new EntityStore();
+    private final EntityRegistry registry = new EntityRegistry();
+    private final SnapshotExchange<WorldSnapshot> snapshots = new SnapshotExchange<>(WorldSnapshot::new);
     private final TimeManager time = new TimeManager(60);
+    private final TextSprite bestScoreText = new TextSprite(SMALL_FONT, TEXT_AND_OUTLINE_COLOR);
+    private final TextSprite scoreText = new TextSprite(SMALL_FONT, TEXT_AND_OUTLINE_COLOR);
+    private final TextSprite crashedText = new TextSprite(CRASHED_TEXT, LARGE_FONT, TEXT_AND_OUTLINE_COLOR);
+    private final TextSprite resultText = new TextSprite(SMALL_FONT, TEXT_AND_OUTLINE_COLOR);
+    private final TextSprite pausedText = new TextSprite(PAUSED, LARGE_FONT, TEXT_AND_OUTLINE_COLOR);
+    private final TextSprite resumeText = new TextSprite(RESUME, MEDIUM_FONT, TEXT_AND_OUTLINE_COLOR);
+    private int displayedScore = -1;
+    private int displayedBestScore = -1;
+    private int displayedResultScore = -1;
+    private int displayedResultBestScore = -1;
+    private int frameRateLimit = 0;
+    private int drawnItems = 0;
+    private int culledItems = 0;
+    private boolean dirtyRegions = false;
+    private CanvasImage damagedCanvas;
+    private int damagedLayerVersion;
+    private int damagedScore;
+    private int damagedBestScore;
+    private boolean damagedPaused;
+    private boolean damagedPlayerDestroyed;
+    private double damagedResultProgress;
+    private boolean damagedGameOverPlaying;
+    private boolean frameTimeReported = false;
+    private boolean snapshotsPublished = true;
     private boolean running = false;
     private boolean paused = false;
+    private volatile boolean idle = false;
     private int asteroidsCount = 0;
     private int score = 0;
     private int bestScore = 0;
     private int scoreTimer = (int) time.updateRate();
-    private List<Renderable> renderablesDublicate;
-    private List<Updatable> updatablesDublicate;
     private Player player;
 
     public Game() {
+        this(new FrameWindow());
+    }
+
+    public Game(Window window) {
+        this.window = window;
+        spawnPoint = new Vector((double) window.getBufferWidth() / 2,(double) window.getBufferHeight() / 2);
+        asteroidGrid = new SpatialHashGrid<>(window.getBufferWidth(), window.getBufferHeight(), ASTEROID_GRID_CELL_SIZE);
+        damageTracker = new DamageTracker(window.getBufferWidth(), window.getBufferHeight());
+        scoreBoard = new Rectangle2D.Double(window.getBufferWidth() - SCORE_BOARD_WIDTH, 0, SCORE_BOARD_WIDTH, SCORE_BOARD_HEIGHT);
+        resultBoard = new Rectangle2D.Double(
+                window.getBufferWidth()/2.0 - (RESULT_BOARD_WIDTH / 2.0),
+                window.getBufferHeight()/2.0 - (RESULT_BOARD_HEIGHT / 2.0) - RESULT_BOARD_Y_OFFSET,
+                RESULT_BOARD_WIDTH,
+                RESULT_BOARD_HEIGHT
+        );
+        window.getKeyboard().setChangeListener(() -> {
+            inputSignal.signal();
+            frameSignal.signal();
+        });
+        window.setExposeListener(frameSignal::signal);
         render = new RenderThread(this);
         update = new UpdateThread(this);
+        registry.addListener(new EntityRegistry.Listener() {
+            @Override
+            public void added(Object entity) {
+                if (entity instanceof Renderable) renderQueue.add((Renderable) entity);
+            }
+
+            @Override
+            public void removed(Object entity) {
+                if (entity instanceof Renderable) renderQueue.remove((Renderable) entity);
+                if (entity instanceof Asteroid) asteroidStore.release((Asteroid) entity);
+                if (entity instanceof Bullet) bulletStore.release((Bullet) entity);
+            }
+        });
+    }
+
+    public <T> EntityBucket<T> getEntities(Class<T> type) {
+        return registry.bucket(type);
     }
 
-    public void addRenderable(Renderable renderable) {
-        renderables.add(renderable);
+    public SpatialHashGrid<Asteroid> getAsteroidGrid() {
+        return asteroidGrid;
     }
 
-    public void removeRenderable(Renderable renderable) {
-        renderables.remove(renderable);
+    public VectorPool getVectorPool() {
+        return vectorPool;
     }
 
-    public void addUpdatable(Updatable updatable) {
-        updatables.add(updatable);
+    public EntityStore getAsteroidStore() {
+        return asteroidStore;
     }
 
-    public void removeUpdatable(Updatable updatable) {
-        updatables.remove(updatable);
+    public EntityStore getBulletStore() {
+        return bulletStore;
     }
 
-    public synchronized List<Updatable> getUpdatables() {
-        return updatablesDublicate;
+    private void integrateStores() {
+        asteroidStore.savePrevious();
+        if (!player.onPower(PowerUp.PowerType.FREEZER)) asteroidStore.integrate();
+        bulletStore.savePrevious();
+        bulletStore.integrate();
     }
 
-    public synchronized List<Renderable> getRenderables() {
-        return renderablesDublicate;
+    private void rebuildAsteroidGrid() {
+        asteroidGrid.clear();
+        getEntities(Asteroid.class).forEach(asteroid -> {
+            if (!asteroid.isNotDestroyed()) return;
+            double radius = asteroid.getShape().getBoundingRadius() + asteroid.getSpeed();
+            asteroidGrid.insert(asteroid, asteroid.getX(), asteroid.getY(), radius);
+        });
     }
 
-    public void updateRenderablesAndUpdatablesLists() {
-        renderablesDublicate = new ArrayList<>(renderables);
-        updatablesDublicate = new ArrayList<>(updatables);
+    public void reorder(Renderable renderable) {
+        renderQueue.reorder(renderable);
     }
 
-    public synchronized void register(Object object) {
+    public void applyPendingChanges() {
+        registry.flush();
+    }
+
+    public void register(Object object) {
         if (object instanceof Player) {
             player = (Player) object;
         }
-        if (object instanceof Renderable) {
-            addRenderable((Renderable) object);
-        }
-        if (object instanceof Updatable) {
-            addUpdatable((Updatable) object);
-        }
+        registry.add(object);
     }
 
-    public synchronized void unregister(Object object) {
+    public void unregister(Object object) {
         if (object instanceof Player) {
             player = null;
         }
-        if (object instanceof Renderable) {
-            removeRenderable((Renderable) object);
-        }
-        if (object instanceof Updatable) {
-            removeUpdatable((Updatable) object);
-        }
+        registry.remove(object);
     }
 
     public void asteroidsInitialize() {
-        asteroidsCount = (int) Main.getGame().getUpdatables().stream().filter(object -> object instanceof Asteroid).count();
+        asteroidsCount = getEntities(Asteroid.class).size();
         if (asteroidsCount == 0) {
             List<Asteroid> asteroids = new ArrayList<>();
             IntStream.range(0,START_ASTEROIDS_COUNT).forEach(i -> asteroids.add(new Asteroid()));
@@ -127,8 +217,7 @@ public class Game {
     }
 
     public void initialize() {
-        updateRenderablesAndUpdatablesLists();
-        ParticleGenerator light = new ParticleGenerator(ParticleGenerator.BASE_STARS_COUNT, ParticleGenerator.STARS_Z_INDEX);
+        ParticleGenerator light = ParticleGenerator.createStars();
         register(light);
 
         Vector spawnPosition = this.spawnPoint.clone();
@@ -140,14 +229,17 @@ public class Game {
         register(smoke);
         smoke.setRecurring(false);
 
+        applyPendingChanges();
         asteroidsInitialize();
+        applyPendingChanges();
     }
 
     public void reset() {
-        getUpdatables().stream().filter(updatable -> updatable instanceof Asteroid).map(asteroid -> (Asteroid) asteroid).forEach(Asteroid::kill);
-        getRenderables().stream().filter(renderable -> renderable instanceof PowerUp).map(powerUp -> (PowerUp) powerUp).forEach(PowerUp::kill);
+        getEntities(Asteroid.class).forEach(Asteroid::kill);
+        getEntities(PowerUp.class).forEach(PowerUp::kill);
         player.setPosition(spawnPoint.clone());
         player.resurrect();
+        applyPendingChanges();
         asteroidsInitialize();
         bestScore = Math.max(bestScore, score);
         score = 0;
@@ -175,12 +267,17 @@ public class Game {
             window.setFullscreen(!window.isFullscreen());
         }
 
+        if (keyboard.pressed(KeyEvent.VK_F11) && !keyboard.isMemorized(KeyEvent.VK_F11)) {
+            keyboard.memorizePress(KeyEvent.VK_F11);
+            window.setNativeResolution(!window.isNativeResolution());
+        }
+
         if (keyboard.pressed(KeyEvent.VK_P) && !keyboard.isMemorized(KeyEvent.VK_P)) {
             keyboard.memorizePress(KeyEvent.VK_P);
             paused = !paused;
         }
 
-        if (player.isDestroyed() && !(GameSound.GAME_OVER.get().isPlaying() && !GameSound.GAME_OVER.get().isEnded())) {
+        if (player.isDestroyed() && !isGameOverPlaying()) {
             if (keyboard.pressed(KeyEvent.VK_R) && !keyboard.isMemorized(KeyEvent.VK_R)) {
                 keyboard.memorizePress(KeyEvent.VK_R);
                 reset();
@@ -208,16 +305,24 @@ public class Game {
         this.score += score;
     }
 
-    public void drawScoreText(Graphics2D graphics) {
-        if (player.isDestroyed()) return;
-        graphics.setFont(SMALL_FONT);
-        graphics.setColor(TEXT_AND_OUTLINE_COLOR);
-        graphics.drawString("Best score: " + Math.max(score, bestScore), window.getBufferWidth() - 250, 50);
-        graphics.drawString("Score: " + score, window.getBufferWidth() - 250, 75);
+    public void drawScoreText(Graphics2D graphics, WorldSnapshot snapshot) {
+        if (snapshot.isPlayerDestroyed()) return;
+        int score = snapshot.getScore();
+        int bestScore = Math.max(score, snapshot.getBestScore());
+        if (bestScore != displayedBestScore) {
+            bestScoreText.setText(BEST_SCORE_LABEL + bestScore);
+            displayedBestScore = bestScore;
+        }
+        if (score != displayedScore) {
+            scoreText.setText(SCORE_LABEL + score);
+            displayedScore = score;
+        }
+        bestScoreText.draw(graphics, window.getBufferWidth() - SCORE_BOARD_WIDTH, 50);
+        scoreText.draw(graphics, window.getBufferWidth() - SCORE_BOARD_WIDTH, 75);
     }
 
-    public void drawResultText(Graphics2D graphics) {
-        if (!player.isDestroyed()) return;
+    public void drawResultText(Graphics2D graphics, WorldSnapshot snapshot) {
+        if (!snapshot.isPlayerDestroyed()) return;
         graphics.setColor(TEXT_BACKGROUND_COLOR);
         graphics.fillRect(
                 window.getBufferWidth()/2 - (RESULT_BOARD_WIDTH / 2),
@@ -235,35 +340,34 @@ public class Game {
                 RESULT_BOARD_HEIGHT
         );
 
-        graphics.setFont(LARGE_FONT);
-        TextLayout textLayout = new TextLayout(CRASHED_TEXT, LARGE_FONT, graphics.getFontRenderContext());
-        double xTextOffset = textLayout.getBounds().getWidth()/2;
-        double yTextOffset = textLayout.getAscent()/2;
-        double progress = GameSound.GAME_OVER.get().getClipProgress();
-        int hexColor = 0xFFFFFF + ((int) (255 * progress) << 24);
-        graphics.setColor(new Color(hexColor, true));
-        graphics.drawString(CRASHED_TEXT, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - (yTextOffset - TEXT_INTERVAL) * progress));
-
-        if (GameSound.GAME_OVER.get().isPlaying() && !GameSound.GAME_OVER.get().isEnded()) return;
-
-        graphics.setFont(SMALL_FONT);
-        graphics.setColor(Color.WHITE);
-        StringBuilder scoreLabel = new StringBuilder();
-        if (score > bestScore) {
-            scoreLabel.append(NEW_RECORD);
-        } else {
-            scoreLabel.append(BEST_SCORE.formatted(bestScore));
+        double xTextOffset = crashedText.getWidth()/2;
+        double yTextOffset = crashedText.getAscent()/2;
+        double progress = snapshot.getGameOverProgress();
+        crashedText.draw(graphics, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - (yTextOffset - TEXT_INTERVAL) * progress), (int) (255 * progress) / 255f);
+
+        if (snapshot.isGameOverPlaying()) return;
+
+        int score = snapshot.getScore();
+        int bestScore = snapshot.getBestScore();
+        if (score != displayedResultScore || bestScore != displayedResultBestScore) {
+            StringBuilder scoreLabel = new StringBuilder();
+            if (score > bestScore) {
+                scoreLabel.append(NEW_RECORD);
+            } else {
+                scoreLabel.append(BEST_SCORE.formatted(bestScore));
+            }
+            scoreLabel.append(YOUR_SCORE.formatted(score));
+            resultText.setText(scoreLabel.toString());
+            displayedResultScore = score;
+            displayedResultBestScore = bestScore;
         }
-        scoreLabel.append(YOUR_SCORE.formatted(score));
-        String scoreText = scoreLabel.toString();
-        textLayout = new TextLayout(scoreText, SMALL_FONT, graphics.getFontRenderContext());
-        xTextOffset = textLayout.getBounds().getWidth()/2;
-        yTextOffset = textLayout.getAscent()/2;
-        graphics.drawString(scoreLabel.toString(), (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset + TEXT_INTERVAL));
+        xTextOffset = resultText.getWidth()/2;
+        yTextOffset = resultText.getAscent()/2;
+        resultText.draw(graphics, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset + TEXT_INTERVAL));
     }
 
-    public void drawPauseText(Graphics2D graphics) {
-        if (player.isDestroyed() || !paused) return;
+    public void drawPauseText(Graphics2D graphics, WorldSnapshot snapshot) {
+        if (snapshot.isPlayerDestroyed() || !snapshot.isPaused()) return;
         graphics.setColor(TEXT_BACKGROUND_COLOR);
         graphics.fillRect(
                 window.getBufferWidth()/2 - (RESULT_BOARD_WIDTH / 2),
@@ -281,44 +385,196 @@ public class Game {
                 RESULT_BOARD_HEIGHT
         );
 
-        graphics.setFont(LARGE_FONT);
-        TextLayout textLayout = new TextLayout(PAUSED, LARGE_FONT, graphics.getFontRenderContext());
-        double xTextOffset = textLayout.getBounds().getWidth()/2;
-        double yTextOffset = textLayout.getAscent()/2;
-        graphics.drawString(PAUSED, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset - TEXT_INTERVAL));
+        double xTextOffset = pausedText.getWidth()/2;
+        double yTextOffset = pausedText.getAscent()/2;
+        pausedText.draw(graphics, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset - TEXT_INTERVAL));
 
-        graphics.setFont(MEDIUM_FONT);
-        textLayout = new TextLayout(RESUME, MEDIUM_FONT, graphics.getFontRenderContext());
-        xTextOffset = textLayout.getBounds().getWidth()/2;
-        yTextOffset = textLayout.getAscent()/2;
-        graphics.drawString(RESUME, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset + TEXT_INTERVAL));
+        xTextOffset = resumeText.getWidth()/2;
+        yTextOffset = resumeText.getAscent()/2;
+        resumeText.draw(graphics, (int) (window.getBufferWidth()/2 - xTextOffset), (int) (window.getBufferHeight()/2 - yTextOffset + TEXT_INTERVAL));
     }
 
     public void update() {
-        updateRenderablesAndUpdatablesLists();
+        vectorPool.reset();
         control(window.getKeyboard());
-        if (paused) return;
-        getUpdatables().forEach(Updatable::update);
-        scoreIncrement();
-        asteroidsInitialize();
+        if (!paused) {
+            rebuildAsteroidGrid();
+            integrateStores();
+            registry.updateAll();
+            scoreIncrement();
+            asteroidsInitialize();
+        }
+        applyPendingChanges();
+        if (snapshotsPublished) publishSnapshot();
+    }
+
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBackBuffer();
+        snapshot.clear();
+        renderQueue.forEach(renderable -> renderable.capture(snapshot));
+        boolean gameOverPlaying = isGameOverPlaying();
+        double gameOverProgress = player.isDestroyed() ? GameSound.GAME_OVER.get().getClipProgress() : 0;
+        snapshot.setState(score, bestScore, paused, player.isDestroyed(), gameOverPlaying, gameOverProgress);
+        snapshots.publish();
+        idle = paused || (player.isDestroyed() && !gameOverPlaying);
+        frameSignal.signal();
+    }
+
+    private boolean isGameOverPlaying() {
+        return GameSound.GAME_OVER.get().isPlaying() && !GameSound.GAME_OVER.get().isEnded();
+    }
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    public WakeSignal getInputSignal() {
+        return inputSignal;
+    }
+
+    public WakeSignal getFrameSignal() {
+        return frameSignal;
     }
 
     public void render() {
-        window.clear();
+        WorldSnapshot snapshot = snapshots.acquire();
+        double interpolation = snapshot.isPaused() ? 1 : update.getInterpolation();
+        for (int attempt = 0; attempt < MAX_FRAME_ATTEMPTS; attempt++) {
+            renderFrame(snapshot, interpolation);
+            if (window.swapCanvasImage()) return;
+            damagedCanvas = null;
+        }
+    }
+
+    private void renderFrame(WorldSnapshot snapshot, double interpolation) {
+        window.selectCanvasImage();
+        snapshot.paintBackground(interpolation);
+        if (dirtyRegions && trackDamage(snapshot, interpolation)) {
+            renderDamage(snapshot, interpolation);
+        } else {
+            window.clear();
+            Graphics2D graphics = window.getGameGraphics();
+            snapshot.resetDrawn();
+            snapshot.cull(window.getBufferWidth(), window.getBufferHeight(), interpolation);
+            snapshot.paint(graphics, interpolation);
+            drawnItems = snapshot.getDrawnCount();
+            culledItems = snapshot.getCulledCount();
+            drawHud(graphics, snapshot);
+        }
+        window.getCanvasImage().getBackgroundLayer().resetDamage();
+    }
+
+    private void drawHud(Graphics2D graphics, WorldSnapshot snapshot) {
+        drawScoreText(graphics, snapshot);
+        drawResultText(graphics, snapshot);
+        drawPauseText(graphics, snapshot);
+    }
+
+    private void drawHud(Graphics2D graphics, WorldSnapshot snapshot, Rectangle2D region) {
+        if (intersectsHud(region, scoreBoard)) drawScoreText(graphics, snapshot);
+        if (!intersectsHud(region, resultBoard)) return;
+        drawResultText(graphics, snapshot);
+        drawPauseText(graphics, snapshot);
+    }
+
+    private static boolean intersectsHud(Rectangle2D region, Rectangle2D board) {
+        return region.intersects(board.getX() - HUD_MARGIN, board.getY() - HUD_MARGIN, board.getWidth() + HUD_MARGIN * 2, board.getHeight() + HUD_MARGIN * 2);
+    }
+
+    private boolean trackDamage(WorldSnapshot snapshot, double interpolation) {
+        CanvasImage canvas = window.getCanvasImage();
+        BackgroundLayer layer = canvas.getBackgroundLayer();
+        int layerVersion = layer.getVersion();
+        damageTracker.reset();
+        if (canvas != damagedCanvas || layerVersion != damagedLayerVersion) damageTracker.invalidate();
+        if (snapshot.isPaused() != damagedPaused || snapshot.isPlayerDestroyed() != damagedPlayerDestroyed) damageTracker.invalidate();
+        damageTracker.track(snapshot, interpolation);
+        for (int i = 0; i < layer.getDamagedRegionCount(); i++) {
+            damageTracker.damage(layer.getDamagedRegion(i));
+        }
+        if (snapshot.getScore() != damagedScore || snapshot.getBestScore() != damagedBestScore) {
+            damageTracker.damage(scoreBoard);
+        }
+        if (snapshot.getGameOverProgress() != damagedResultProgress || snapshot.isGameOverPlaying() != damagedGameOverPlaying) {
+            damageTracker.damage(resultBoard);
+        }
+        damagedCanvas = canvas;
+        damagedLayerVersion = layerVersion;
+        damagedScore = snapshot.getScore();
+        damagedBestScore = snapshot.getBestScore();
+        damagedPaused = snapshot.isPaused();
+        damagedPlayerDestroyed = snapshot.isPlayerDestroyed();
+        damagedResultProgress = snapshot.getGameOverProgress();
+        damagedGameOverPlaying = snapshot.isGameOverPlaying();
+        return !damageTracker.isFullRedraw();
+    }
+
+    private void renderDamage(WorldSnapshot snapshot, double interpolation) {
+        CanvasImage canvas = window.getCanvasImage();
         Graphics2D graphics = window.getGameGraphics();
-        getRenderables().stream().sorted(Comparator.comparingInt(Renderable::getZIndex)).forEach(renderable -> renderable.render(graphics));
-        drawScoreText(graphics);
-        drawResultText(graphics);
-        drawPauseText(graphics);
-        window.swapCanvasImage();
+        snapshot.resetDrawn();
+        for (int i = 0; i < damageTracker.getRegionCount(); i++) {
+            Rectangle2D region = damageTracker.getRegion(i);
+            canvas.clear(region);
+            snapshot.cull(region, interpolation);
+            snapshot.paint(graphics, interpolation);
+            drawHud(graphics, snapshot, region);
+        }
+        drawnItems = snapshot.getDrawnCount();
+        culledItems = snapshot.getCulledCount();
     }
 
     public TimeManager getTimeManager() {
         return time;
     }
 
+    public void setFrameRateLimit(int frameRateLimit) {
+        this.frameRateLimit = frameRateLimit;
+    }
+
+    public void setDirtyRegions(boolean dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
+        damagedCanvas = null;
+    }
+
+    public boolean isDirtyRegions() {
+        return dirtyRegions;
+    }
+
+    public void setFrameTimeReported(boolean frameTimeReported) {
+        this.frameTimeReported = frameTimeReported;
+    }
+
+    public boolean isFrameTimeReported() {
+        return frameTimeReported;
+    }
+
+    public void setSnapshotsPublished(boolean snapshotsPublished) {
+        this.snapshotsPublished = snapshotsPublished;
+    }
+
+    public int getDrawnItems() {
+        return drawnItems;
+    }
+
+    public int getCulledItems() {
+        return culledItems;
+    }
+
+    public int getFrameRate() {
+        return frameRateLimit > 0 ? frameRateLimit : window.getRefreshRate();
+    }
+
     public int getAsteroidsCount() {
         return asteroidsCount;
     }
 
+    public int getScore() {
+        return score;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
 }
\ No newline at end of file
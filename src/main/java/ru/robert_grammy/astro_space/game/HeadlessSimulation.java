@@ -0,0 +1,34 @@
+package ru.robert_grammy.astro_space.game;
+
+import ru.robert_grammy.astro_space.engine.InputScript;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+import ru.robert_grammy.astro_space.utils.TimeManager;
+
+public class HeadlessSimulation {
+
+    private static final String REPORT = "Simulated %d ticks in %.3f s: %.1f ticks per second";
+    private static final String RESULT = "Score: %d, best score: %d, asteroids: %d";
+    private final Game game;
+    private final InputScript script;
+
+    public HeadlessSimulation(Game game, InputScript script) {
+        this.game = game;
+        this.script = script;
+    }
+
+    public double run(long ticks) {
+        game.initialize();
+        game.setSnapshotsPublished(false);
+        long start = TimeManager.getCurrentTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            script.apply(tick, game.getWindow().getKeyboard());
+            game.update();
+        }
+        double seconds = (double) (TimeManager.getCurrentTime() - start) / TimeManager.SECOND;
+        double ticksPerSecond = ticks / seconds;
+        GameDebugger.console(REPORT.formatted(ticks, seconds, ticksPerSecond));
+        GameDebugger.console(RESULT.formatted(game.getScore(), game.getBestScore(), game.getAsteroidsCount()));
+        return ticksPerSecond;
+    }
+
+}
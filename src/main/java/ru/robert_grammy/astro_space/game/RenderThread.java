@@ -1,11 +1,23 @@
 package ru.robert_grammy.astro_space.game;
 
+import ru.robert_grammy.astro_space.utils.FrameScheduler;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+import ru.robert_grammy.astro_space.utils.TimeManager;
+
 public class RenderThread implements Runnable {
 
     private static final String THREAD_NAME = "RenderThread";
+    private static final String FRAME_TIME_REPORT = "%s render target: %.3f ms per frame over %d frames, %.1f drawn and %.1f culled items per frame";
+    private static final long FRAME_TIME_REPORT_INTERVAL = 5 * TimeManager.SECOND;
+    private static final long IDLE_FRAME_INTERVAL = TimeManager.SECOND;
 
     private final Thread thread;
     private final Game game;
+    private long reportStart = TimeManager.getCurrentTime();
+    private long renderTime = 0;
+    private int renderedFrames = 0;
+    private long drawnItems = 0;
+    private long culledItems = 0;
 
     public RenderThread(Game game) {
         this.game = game;
@@ -19,9 +31,35 @@ public class RenderThread implements Runnable {
 
     @Override
     public void run() {
+        FrameScheduler scheduler = new FrameScheduler(new TimeManager(game.getFrameRate()));
         while (!Thread.currentThread().isInterrupted()) {
+            long frameGeneration = game.getFrameSignal().getGeneration();
+            long start = TimeManager.getCurrentTime();
             game.render();
+            if (game.isFrameTimeReported()) report(TimeManager.getCurrentTime() - start);
+            if (game.isIdle()) {
+                game.getFrameSignal().await(frameGeneration, IDLE_FRAME_INTERVAL);
+                scheduler.reset();
+                continue;
+            }
+            scheduler.awaitNextFrame();
         }
     }
 
+    private void report(long frameTime) {
+        renderTime += frameTime;
+        renderedFrames++;
+        drawnItems += game.getDrawnItems();
+        culledItems += game.getCulledItems();
+        long now = TimeManager.getCurrentTime();
+        if (now - reportStart < FRAME_TIME_REPORT_INTERVAL) return;
+        String target = game.getWindow().getCanvasImage().isAccelerated() ? "VolatileImage" : "BufferedImage";
+        GameDebugger.console(FRAME_TIME_REPORT.formatted(target, (double) renderTime / renderedFrames / TimeManager.SECOND * 1000, renderedFrames, (double) drawnItems / renderedFrames, (double) culledItems / renderedFrames));
+        reportStart = now;
+        renderTime = 0;
+        renderedFrames = 0;
+        drawnItems = 0;
+        culledItems = 0;
+    }
+
 }
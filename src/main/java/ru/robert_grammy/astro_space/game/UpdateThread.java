@@ -1,13 +1,21 @@
 package ru.robert_grammy.astro_space.game;
 
+import ru.robert_grammy.astro_space.utils.FrameScheduler;
+import ru.robert_grammy.astro_space.utils.GameDebugger;
 import ru.robert_grammy.astro_space.utils.TimeManager;
 
 public class UpdateThread implements Runnable {
 
     private static final String THREAD_NAME = "UpdateThread";
+    private static final String REPORT = "Update loop fell behind: %d catch-up ticks, %d ticks dropped in the last %d s";
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final int REPORT_INTERVAL_SECONDS = 10;
 
     private final Thread thread;
     private final Game game;
+    private volatile long catchUpTicks = 0;
+    private volatile long droppedTicks = 0;
+    private volatile long stateTime = 0;
 
     public UpdateThread(Game game) {
         this.game = game;
@@ -20,18 +28,60 @@ public class UpdateThread implements Runnable {
 
     @Override
     public void run() {
-        float delta = 0;
+        double accumulator = 0;
         long lastTime = TimeManager.getCurrentTime();
+        long nextReportTime = lastTime + REPORT_INTERVAL_SECONDS * TimeManager.SECOND;
+        long reportedCatchUpTicks = 0;
+        long reportedDroppedTicks = 0;
+        long inputGeneration = game.getInputSignal().getGeneration();
         while (!Thread.currentThread().isInterrupted()) {
+            double interval = game.getTimeManager().getUpdateInterval();
             long now = TimeManager.getCurrentTime();
-            long elapsedTime = now - lastTime;
+            accumulator += now - lastTime;
             lastTime = now;
-            delta += (float) (elapsedTime / game.getTimeManager().getUpdateInterval());
-            while (delta > 1) {
+            int ticks = 0;
+            while (accumulator >= interval && ticks < MAX_CATCH_UP_TICKS) {
+                inputGeneration = game.getInputSignal().getGeneration();
                 game.update();
-                delta--;
+                accumulator -= interval;
+                ticks++;
             }
+            if (ticks > 1) catchUpTicks += ticks - 1;
+            if (accumulator >= interval) {
+                long dropped = (long) (accumulator / interval);
+                droppedTicks += dropped;
+                accumulator -= dropped * interval;
+            }
+            stateTime = now - (long) accumulator;
+            if (now >= nextReportTime) {
+                if (catchUpTicks != reportedCatchUpTicks || droppedTicks != reportedDroppedTicks) {
+                    GameDebugger.console(REPORT.formatted(catchUpTicks - reportedCatchUpTicks, droppedTicks - reportedDroppedTicks, REPORT_INTERVAL_SECONDS));
+                    reportedCatchUpTicks = catchUpTicks;
+                    reportedDroppedTicks = droppedTicks;
+                }
+                nextReportTime = now + REPORT_INTERVAL_SECONDS * TimeManager.SECOND;
+            }
+            if (game.isIdle()) {
+                game.getInputSignal().await(inputGeneration);
+                lastTime = TimeManager.getCurrentTime();
+                accumulator = interval;
+                continue;
+            }
+            FrameScheduler.waitUntil(lastTime + (long) (interval - accumulator));
         }
     }
 
+    public double getInterpolation() {
+        double interpolation = (TimeManager.getCurrentTime() - stateTime) / game.getTimeManager().getUpdateInterval();
+        return Math.min(Math.max(interpolation, 0), 1);
+    }
+
+    public long getCatchUpTicks() {
+        return catchUpTicks;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
 }
@@ -0,0 +1,47 @@
+package ru.robert_grammy.astro_space.game;
+
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
+
+public class WorldSnapshot extends RenderSnapshot {
+
+    private int score;
+    private int bestScore;
+    private boolean paused;
+    private boolean playerDestroyed;
+    private boolean gameOverPlaying;
+    private double gameOverProgress;
+
+    public void setState(int score, int bestScore, boolean paused, boolean playerDestroyed, boolean gameOverPlaying, double gameOverProgress) {
+        this.score = score;
+        this.bestScore = bestScore;
+        this.paused = paused;
+        this.playerDestroyed = playerDestroyed;
+        this.gameOverPlaying = gameOverPlaying;
+        this.gameOverProgress = gameOverProgress;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isPlayerDestroyed() {
+        return playerDestroyed;
+    }
+
+    public boolean isGameOverPlaying() {
+        return gameOverPlaying;
+    }
+
+    public double getGameOverProgress() {
+        return gameOverProgress;
+    }
+
+}
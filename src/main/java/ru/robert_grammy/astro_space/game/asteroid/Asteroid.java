@@ -1,8 +1,11 @@
 package ru.robert_grammy.astro_space.game.asteroid;
 
 import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.EntityStore;
+import ru.robert_grammy.astro_space.engine.RenderItem;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
 import ru.robert_grammy.astro_space.engine.Renderable;
-import ru.robert_grammy.astro_space.engine.geometry.StraightLine;
+import ru.robert_grammy.astro_space.engine.geometry.Segments;
 import ru.robert_grammy.astro_space.engine.Updatable;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
 import ru.robert_grammy.astro_space.engine.sound.GameSound;
@@ -12,21 +15,20 @@ import ru.robert_grammy.astro_space.game.player.Player;
 import ru.robert_grammy.astro_space.game.powerup.PowerUp;
 import ru.robert_grammy.astro_space.game.shape.LineShape;
 import ru.robert_grammy.astro_space.game.shape.ShapeManager;
+import ru.robert_grammy.astro_space.game.shape.ShapeOutline;
+import ru.robert_grammy.astro_space.game.shape.VertexView;
 import ru.robert_grammy.astro_space.utils.QMath;
 import ru.robert_grammy.astro_space.utils.rnd.RandomIntegerValueRange;
 import ru.robert_grammy.astro_space.utils.rnd.RandomValueRange;
 
 import java.awt.*;
-import java.awt.geom.GeneralPath;
-import java.util.List;
-import java.util.Optional;
 
-public class Asteroid implements Renderable, Updatable {
+public class Asteroid implements Renderable, Updatable, EntityStore.Handle {
 
     private final static RandomIntegerValueRange XY_SPAWN_OFFSET_RANGE = new RandomIntegerValueRange(-100, 100);
     private final static RandomIntegerValueRange NEGATIVE_ZERO_POSITIVE_RANGE = new RandomIntegerValueRange(-1, 1);
     private final static RandomIntegerValueRange DEGREES_OF_ANGLE_OFFSET_RANGE = new RandomIntegerValueRange(-100, 100);
-    private final static BasicStroke ASTEROID_LINE_WEIGHT = new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    private final static float ASTEROID_LINE_WEIGHT = 2;
     private final static int MIN_ASTEROIDS_COUNT = 2;
     private final static int MIN_ASTEROID_SIZE = 3;
     private final static int MIN_ASTEROID_SIZE_TO_SPLIT = 8;
@@ -47,70 +49,68 @@ public class Asteroid implements Renderable, Updatable {
     private final static double ASTEROID_MIN_MOVEMENT_SPEED = 0.60;
     private final static double COEFFICIENT_TO_CALCULATE_MOVEMENT_SPEED_DECREASE = 0.35;
     private final static Sound BOOM_SOUND = GameSound.BOOM.get();
+    private final static AsteroidSpriteAtlas SPRITE_ATLAS = new AsteroidSpriteAtlas();
+    private final EntityStore store = Main.getGame().getAsteroidStore();
+    private int slot;
     private boolean isDestroyed = false;
     private boolean isResetImmune = true;
-    private Vector inertia;
-    private Vector position;
     private LineShape shape;
-    private boolean rightRotation;
-    private double rotationSpeed;
     private int zIndex;
-    private int size;
-    private int health;
     private int destroyTimer;
     private ParticleGenerator explosion;
-    private Color asteroidColor;
+    private int tint;
 
     public Asteroid(int size, boolean rightRotation, double rotationSpeed, Vector inertia, Vector position) {
-        this.size = size;
-        this.position = position;
-        this.rightRotation = rightRotation;
-        this.rotationSpeed = rotationSpeed;
-        this.inertia = inertia;
-        this.shape = ShapeManager.generate(size);
-        this.zIndex = DEFAULT_MAX_Z_INDEX - size;
-        this.health = (int) (size / ASTEROID_HEALTH_CALCULATE_COEFFICIENT);
-        this.asteroidColor = shape.getFillColor();
-        destroyTimer = size * 2;
+        store.allocate(this);
+        spawn(size, rightRotation, rotationSpeed, inertia, position);
     }
 
     public Asteroid() {
+        store.allocate(this);
         reset();
     }
 
+    private void spawn(int size, boolean rightRotation, double rotationSpeed, Vector inertia, Vector position) {
+        this.shape = ShapeManager.generate(size);
+        store.setSize(slot, size);
+        store.snapPosition(slot, position.getX(), position.getY());
+        store.setVelocity(slot, inertia.getX(), inertia.getY());
+        store.snapRotation(slot, shape.getRotation());
+        store.setRotationSpeed(slot, rightRotation ? rotationSpeed : -rotationSpeed);
+        store.setHealth(slot, (int) (size / ASTEROID_HEALTH_CALCULATE_COEFFICIENT));
+        this.zIndex = DEFAULT_MAX_Z_INDEX - size;
+        this.tint = 0;
+        destroyTimer = size * 2;
+    }
+
     @Override
-    public void render(Graphics2D graphics) {
+    public void capture(RenderSnapshot snapshot) {
         if (isDestroyed) return;
-        GeneralPath path = new GeneralPath();
-        Vector firstPoint = null;
-        for (Vector point : shape.getRealPoints(position)) {
-            if (firstPoint == null) {
-                firstPoint = point;
-                path.moveTo(firstPoint.getX(), firstPoint.getY());
-            }
-            path.lineTo(point.getX(), point.getY());
-        }
-        firstPoint = Optional.ofNullable(firstPoint).orElse(Vector.getZero());
-        path.lineTo(firstPoint.getX(), firstPoint.getY());
-        path.closePath();
-        graphics.setColor(asteroidColor);
-        graphics.fill(path);
-        graphics.setStroke(ASTEROID_LINE_WEIGHT);
-        graphics.setColor(shape.getLineColor());
-        graphics.draw(path);
+        snapshot.add(Asteroid::paint, zIndex)
+                .setPosition(store.getPreviousX(slot), store.getPreviousY(slot), store.getX(slot), store.getY(slot))
+                .setRotation(store.getPreviousRotation(slot), store.getRotation(slot))
+                .setScale(shape.getScale())
+                .setBoundingRadius(shape.getBoundingRadius() + ASTEROID_LINE_WEIGHT)
+                .setVariant(tint)
+                .setSource(shape.getOutline());
+    }
+
+    private static void paint(Graphics2D graphics, RenderItem item, double interpolation) {
+        ShapeOutline outline = (ShapeOutline) item.getSource();
+        double x = item.getX(interpolation), y = item.getY(interpolation), rotation = item.getRotation(interpolation);
+        double scale = Main.getGame().getWindow().getCanvasImage().getScale();
+        if (SPRITE_ATLAS.paint(graphics, outline, x, y, rotation, item.getScale(), ASTEROID_LINE_WEIGHT, item.getVariant(), scale)) return;
+        outline.paint(graphics, x, y, rotation, item.getScale(), AsteroidSpriteAtlas.getTintColor(outline.getFillColor(), item.getVariant()), outline.getLineColor(), ASTEROID_LINE_WEIGHT);
     }
 
     public void damage() {
-        health--;
+        store.setHealth(slot, store.getHealth(slot) - 1);
         colorChange();
     }
 
     private void colorChange() {
-        int hexFillColor = shape.getFillColor().getRGB();
-        double thirdOfSize = size / 3.0;
-        int colorBrighter = (int) (48 * ((thirdOfSize - health) / thirdOfSize));
-        hexFillColor += colorBrighter + (colorBrighter << 8) + (colorBrighter << 16);
-        asteroidColor = new Color(hexFillColor);
+        double thirdOfSize = getSize() / 3.0;
+        tint = AsteroidSpriteAtlas.getTint(AsteroidSpriteAtlas.MAX_TINT_BRIGHTNESS * ((thirdOfSize - store.getHealth(slot)) / thirdOfSize));
     }
 
     public void destroy() {
@@ -121,34 +121,37 @@ public class Asteroid implements Renderable, Updatable {
     public void kill() {
         if (isDestroyed) return;
         isDestroyed = true;
-        int explosionSize = size * ASTEROID_EXPLOSION_SIZE_COEFFICIENT;
-        explosion = ParticleGenerator.createExplosion(position, explosionSize, ASTEROID_EXPLOSION_PARTICLE_HEX_COLOR);
+        store.setMoving(slot, false);
+        int explosionSize = getSize() * ASTEROID_EXPLOSION_SIZE_COEFFICIENT;
+        explosion = ParticleGenerator.createExplosion(Main.getGame().getVectorPool().obtain(getX(), getY()), explosionSize, ASTEROID_EXPLOSION_PARTICLE_HEX_COLOR);
         Main.getGame().register(explosion);
         BOOM_SOUND.play();
     }
 
     private void split() {
+        int size = getSize();
         if (size > MIN_ASTEROID_SIZE_TO_SPLIT) {
             int asteroidCountBound = size / ASTEROID_SPLIT_COEFFICIENT;
             RandomIntegerValueRange countRange = new RandomIntegerValueRange(MIN_ASTEROIDS_COUNT, asteroidCountBound);
-            RandomIntegerValueRange xRange = new RandomIntegerValueRange((int) this.position.getX() - (size / 2), (int) (this.position.getX() + size));
-            RandomIntegerValueRange yRange = new RandomIntegerValueRange((int) this.position.getY() - (size / 2), (int) (this.position.getY() + size));
+            RandomIntegerValueRange xRange = new RandomIntegerValueRange((int) getX() - (size / 2), (int) (getX() + size));
+            RandomIntegerValueRange yRange = new RandomIntegerValueRange((int) getY() - (size / 2), (int) (getY() + size));
             int asteroidCount = asteroidCountBound <= MIN_ASTEROIDS_COUNT ? MIN_ASTEROIDS_COUNT : countRange.randomValue();
             for (int i = asteroidCount; i>0; i--) {
                 Vector position = new Vector(
                         xRange.randomValue(),
                         yRange.randomValue()
                 );
-                int size = this.size / asteroidCount;
-                size = Math.max(size, MIN_ASTEROID_SIZE);
+                int childSize = Math.max(size / asteroidCount, MIN_ASTEROID_SIZE);
                 double rotationSpeed = DEFAULT_ROTATION_SPEED + RandomValueRange.RND.nextDouble(ROTATION_SPEED_RND_BOUND);
                 boolean rightRotation = RandomValueRange.RND.nextBoolean();
                 int degree = NEGATIVE_ZERO_POSITIVE_RANGE.randomValue() * (QMath.DEGREES_OF_RIGHT_ANGLE / 2) + DEGREES_OF_ANGLE_OFFSET_RANGE.randomValue();
+                double inertiaX = store.getVelocityX(slot);
+                double inertiaY = store.getVelocityY(slot);
                 Vector inertia = new Vector(
-                        this.inertia.getX() * QMath.cos(degree) - this.inertia.getY() * QMath.sin(degree),
-                        this.inertia.getX() * QMath.sin(degree) + this.inertia.getY() * QMath.cos(degree)
+                        inertiaX * QMath.cos(degree) - inertiaY * QMath.sin(degree),
+                        inertiaX * QMath.sin(degree) + inertiaY * QMath.cos(degree)
                 );
-                Asteroid asteroid = new Asteroid(size, rightRotation, rotationSpeed, inertia, position);
+                Asteroid asteroid = new Asteroid(childSize, rightRotation, rotationSpeed, inertia, position);
                 Main.getGame().register(asteroid);
             }
         }
@@ -162,39 +165,30 @@ public class Asteroid implements Renderable, Updatable {
     @Override
     public void update() {
         if (!isDestroyed) {
-            movement();
+            shape.setRotation(store.getRotation(slot));
             playerCollision();
             process();
         }
         afterDie();
     }
 
-    private void movement() {
-        if (Main.getGame().getPlayer().onPower(PowerUp.PowerType.FREEZER)) return;
-        position.add(inertia);
-        shape.rotate(rightRotation ? rotationSpeed : -rotationSpeed);
-    }
-
     private void playerCollision() {
         Player player = Main.getGame().getPlayer();
         if (player.isDestroyed()) return;
-        List<Vector> asteroidPoints = shape.getRealPoints(position);
+        Vector playerPosition = player.getPosition();
+        double x = getX(), y = getY();
+        double reach = shape.getBoundingRadius() + player.getShape().getBoundingRadius();
+        double xOffset = x - playerPosition.getX();
+        double yOffset = y - playerPosition.getY();
+        if (xOffset * xOffset + yOffset * yOffset > reach * reach) return;
+        if (!shape.getBounds(x, y).intersects(player.getShape().getBounds(playerPosition))) return;
+        VertexView asteroidPoints = shape.getRealPoints(x, y);
+        VertexView playerPoints = player.getShape().getRealPoints(playerPosition);
         for (int i = 0; i<asteroidPoints.size(); i++) {
-            Vector asteroidA = asteroidPoints.get(i);
-            Vector asteroidB = asteroidPoints.get(i + 1 == asteroidPoints.size() ? 0 : i + 1);
-            StraightLine asteroidLine = new StraightLine(asteroidA, asteroidB);
-            List<Vector> playerPoints = player.getShape().getRealPoints(player.getPosition());
+            int asteroidNext = asteroidPoints.next(i);
             for (int j = 0; j<playerPoints.size(); j++) {
-                Vector playerA = playerPoints.get(j);
-                Vector playerB = playerPoints.get(j + 1 == playerPoints.size() ? 0 : j + 1);
-                StraightLine playerLine = new StraightLine(playerA, playerB);
-                if (asteroidLine.isParallel(playerLine)) continue;
-                Vector cross = asteroidLine.getPointIntersectionLines(playerLine);
-                boolean outPlayerYRange = cross.getY() < Math.min(playerA.getY(), playerB.getY()) || cross.getY() > Math.max(playerA.getY(), playerB.getY());
-                boolean outPlayerXRange = cross.getX() < Math.min(playerA.getX(), playerB.getX()) || cross.getX() > Math.max(playerA.getX(), playerB.getX());
-                boolean outAsteroidYRange = cross.getY() < Math.min(asteroidA.getY(), asteroidB.getY()) || cross.getY() > Math.max(asteroidA.getY(), asteroidB.getY());
-                boolean outAsteroidXRange = cross.getX() < Math.min(asteroidA.getX(), asteroidB.getX()) || cross.getX() > Math.max(asteroidA.getX(), asteroidB.getX());
-                if (outPlayerYRange || outPlayerXRange || outAsteroidYRange || outAsteroidXRange) continue;
+                int playerNext = playerPoints.next(j);
+                if (!Segments.intersects(asteroidPoints.getX(i), asteroidPoints.getY(i), asteroidPoints.getX(asteroidNext), asteroidPoints.getY(asteroidNext), playerPoints.getX(j), playerPoints.getY(j), playerPoints.getX(playerNext), playerPoints.getY(playerNext))) continue;
                 if (player.onPower(PowerUp.PowerType.INVINCIBLE)) {
                     kill();
                     return;
@@ -206,33 +200,33 @@ public class Asteroid implements Renderable, Updatable {
     }
 
     private void process() {
-        if (health <= 0) {
+        if (store.getHealth(slot) <= 0) {
             destroy();
         }
-        int inscribedSize = size * INSCRIBED_SIZE_COEFFICIENT;
+        int inscribedSize = getSize() * INSCRIBED_SIZE_COEFFICIENT;
         if (
-                position.getX() < (-inscribedSize - OUT_OF_SCREEN_OFFSET) * 2 ||
-                position.getX() > (Main.getGame().getWindow().getBufferWidth() + inscribedSize + OUT_OF_SCREEN_OFFSET) * 2 ||
-                position.getY() < (-inscribedSize - OUT_OF_SCREEN_OFFSET) * 2 ||
-                position.getY() > (Main.getGame().getWindow().getBufferHeight() + inscribedSize + OUT_OF_SCREEN_OFFSET) * 2
+                getX() < (-inscribedSize - OUT_OF_SCREEN_OFFSET) * 2 ||
+                getX() > (Main.getGame().getWindow().getBufferWidth() + inscribedSize + OUT_OF_SCREEN_OFFSET) * 2 ||
+                getY() < (-inscribedSize - OUT_OF_SCREEN_OFFSET) * 2 ||
+                getY() > (Main.getGame().getWindow().getBufferHeight() + inscribedSize + OUT_OF_SCREEN_OFFSET) * 2
         ) {
             reset();
         }
         if (isResetImmune) {
             if (
-                    position.getX() >= 0 ||
-                    position.getX() <= Main.getGame().getWindow().getBufferWidth() ||
-                    position.getY() >= 0 ||
-                    position.getY() <= Main.getGame().getWindow().getBufferHeight()
+                    getX() >= 0 ||
+                    getX() <= Main.getGame().getWindow().getBufferWidth() ||
+                    getY() >= 0 ||
+                    getY() <= Main.getGame().getWindow().getBufferHeight()
             ) {
                 isResetImmune = false;
             }
         } else {
             if (
-                    position.getX() < -inscribedSize - OUT_OF_SCREEN_OFFSET ||
-                    position.getX() > Main.getGame().getWindow().getBufferWidth() + inscribedSize + OUT_OF_SCREEN_OFFSET ||
-                    position.getY() < -inscribedSize - OUT_OF_SCREEN_OFFSET ||
-                    position.getY() > Main.getGame().getWindow().getBufferHeight() + inscribedSize + OUT_OF_SCREEN_OFFSET
+                    getX() < -inscribedSize - OUT_OF_SCREEN_OFFSET ||
+                    getX() > Main.getGame().getWindow().getBufferWidth() + inscribedSize + OUT_OF_SCREEN_OFFSET ||
+                    getY() < -inscribedSize - OUT_OF_SCREEN_OFFSET ||
+                    getY() > Main.getGame().getWindow().getBufferHeight() + inscribedSize + OUT_OF_SCREEN_OFFSET
             ) {
                 reset();
             }
@@ -274,24 +268,20 @@ public class Asteroid implements Renderable, Updatable {
                 .multiply(inertiaVectorScale);
         Vector position = new Vector(xOffset, yOffset);
 
-        this.size = size;
-        this.position = position;
-        this.rightRotation = rightRotation;
-        this.rotationSpeed = rotationSpeed;
-        this.inertia = inertia;
-        this.shape = ShapeManager.generate(size);
-        this.zIndex = DEFAULT_MAX_Z_INDEX - size;
-        this.health = (int) (size / ASTEROID_HEALTH_CALCULATE_COEFFICIENT);
-        this.asteroidColor = shape.getFillColor();
-        destroyTimer = size * 2;
+        spawn(size, rightRotation, rotationSpeed, inertia, position);
+        Main.getGame().reorder(this);
     }
 
     public LineShape getShape() {
         return shape;
     }
 
-    public Vector getPosition() {
-        return position;
+    public double getX() {
+        return store.getX(slot);
+    }
+
+    public double getY() {
+        return store.getY(slot);
     }
 
     public boolean isNotDestroyed() {
@@ -299,11 +289,21 @@ public class Asteroid implements Renderable, Updatable {
     }
 
     public int getSize() {
-        return size;
+        return (int) store.getSize(slot);
     }
 
-    public Vector getInertia() {
-        return inertia;
+    public double getSpeed() {
+        return store.getSpeed(slot);
+    }
+
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public void setSlot(int slot) {
+        this.slot = slot;
     }
 
 }
@@ -0,0 +1,115 @@
+package ru.robert_grammy.astro_space.game.asteroid;
+
+import ru.robert_grammy.astro_space.game.shape.ShapeOutline;
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class AsteroidSpriteAtlas {
+
+    public static final int ROTATION_BUCKETS = 64;
+    public static final int TINTS_COUNT = 5;
+    public static final int MAX_TINT_BRIGHTNESS = 48;
+    private static final int MAX_SPRITE_SIZE = 256;
+    private static final long PIXELS_BUDGET = 16L << 20;
+    private static final AffineTransform IDENTITY = new AffineTransform();
+    private final Map<ShapeOutline, Sprites> sprites = new LinkedHashMap<>(16, 0.75f, true);
+    private long pixels = 0;
+    private double scale = 1;
+
+    public boolean paint(Graphics2D graphics, ShapeOutline outline, double x, double y, double rotation, double shapeScale, float lineWeight, int tint, double scale) {
+        if (this.scale != scale) clear(scale);
+        int size = (int) Math.ceil((outline.getLocalRadius() * shapeScale + lineWeight) * 2 * scale) + 2;
+        if (size > MAX_SPRITE_SIZE) return false;
+        Sprites shapeSprites = sprites.get(outline);
+        if (shapeSprites == null || shapeSprites.shapeScale != shapeScale) {
+            if (shapeSprites != null) pixels -= shapeSprites.getPixels();
+            shapeSprites = new Sprites(size, shapeScale);
+            sprites.put(outline, shapeSprites);
+        }
+        int bucket = (int) Math.round(QMath.normalizeDegree(rotation) / QMath.DEGREES_OF_FULL_ANGLE * ROTATION_BUCKETS) % ROTATION_BUCKETS;
+        int index = tint * ROTATION_BUCKETS + bucket;
+        BufferedImage sprite = shapeSprites.images[index];
+        if (sprite == null) {
+            sprite = rasterize(outline, size, bucket, shapeScale, lineWeight, tint);
+            shapeSprites.images[index] = sprite;
+            pixels += (long) size * size;
+            evict(outline);
+        }
+        int half = size / 2;
+        if (scale == 1) {
+            graphics.drawImage(sprite, (int) Math.round(x) - half, (int) Math.round(y) - half, null);
+            return true;
+        }
+        AffineTransform transform = graphics.getTransform();
+        graphics.setTransform(IDENTITY);
+        graphics.drawImage(sprite, (int) Math.round(x * scale) - half, (int) Math.round(y * scale) - half, null);
+        graphics.setTransform(transform);
+        return true;
+    }
+
+    private BufferedImage rasterize(ShapeOutline outline, int size, int bucket, double shapeScale, float lineWeight, int tint) {
+        BufferedImage sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = sprite.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.scale(scale, scale);
+        double center = size / 2 / scale;
+        double rotation = (double) bucket * QMath.DEGREES_OF_FULL_ANGLE / ROTATION_BUCKETS;
+        outline.paint(graphics, center, center, rotation, shapeScale, getTintColor(outline.getFillColor(), tint), outline.getLineColor(), lineWeight);
+        graphics.dispose();
+        return sprite;
+    }
+
+    private void evict(ShapeOutline current) {
+        Iterator<Map.Entry<ShapeOutline, Sprites>> iterator = sprites.entrySet().iterator();
+        while (pixels > PIXELS_BUDGET && iterator.hasNext()) {
+            Map.Entry<ShapeOutline, Sprites> entry = iterator.next();
+            if (entry.getKey() == current) continue;
+            pixels -= entry.getValue().getPixels();
+            iterator.remove();
+        }
+    }
+
+    private void clear(double scale) {
+        sprites.clear();
+        pixels = 0;
+        this.scale = scale;
+    }
+
+    public static int getTint(double brightness) {
+        int tint = (int) Math.round(brightness / MAX_TINT_BRIGHTNESS * (TINTS_COUNT - 1));
+        return Math.max(0, Math.min(TINTS_COUNT - 1, tint));
+    }
+
+    public static Color getTintColor(Color color, int tint) {
+        int brightness = tint * MAX_TINT_BRIGHTNESS / (TINTS_COUNT - 1);
+        return new Color(color.getRGB() + brightness + (brightness << 8) + (brightness << 16));
+    }
+
+    private static class Sprites {
+
+        private final BufferedImage[] images = new BufferedImage[ROTATION_BUCKETS * TINTS_COUNT];
+        private final int size;
+        private final double shapeScale;
+
+        private Sprites(int size, double shapeScale) {
+            this.size = size;
+            this.shapeScale = shapeScale;
+        }
+
+        private long getPixels() {
+            long count = 0;
+            for (BufferedImage image : images) {
+                if (image != null) count += (long) size * size;
+            }
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package ru.robert_grammy.astro_space.game.background;
+
+import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.BackgroundPainter;
+import ru.robert_grammy.astro_space.engine.RenderItem;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
+import ru.robert_grammy.astro_space.engine.SnapshotExchange;
+import ru.robert_grammy.astro_space.graphics.BackgroundLayer;
+import ru.robert_grammy.astro_space.graphics.DiscRasterizer;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+class LayerPainter implements BackgroundPainter {
+
+    private static final int PARTICLE_MARGIN = 1;
+    private final SnapshotExchange<RenderSnapshot> exchange = new SnapshotExchange<>(RenderSnapshot::new);
+    private final Rectangle2D.Double region = new Rectangle2D.Double();
+    private long paintedSequence = 0;
+    private BackgroundLayer paintedLayer;
+    private int paintedCount = 0;
+    private int[] paintedLefts = new int[0], paintedTops = new int[0], paintedSizes = new int[0], paintedColors = new int[0];
+    private int changedCount = 0;
+    private int[] changedLefts = new int[0], changedTops = new int[0], changedSizes = new int[0];
+
+    RenderSnapshot getBackBuffer() {
+        return exchange.getBackBuffer();
+    }
+
+    void publish() {
+        exchange.publish();
+    }
+
+    @Override
+    public void paintBackground(RenderItem item, double interpolation) {
+        RenderSnapshot particles = exchange.acquire();
+        BackgroundLayer layer = Main.getGame().getWindow().getCanvasImage().getBackgroundLayer();
+        if (particles.getSequence() <= paintedSequence && layer == paintedLayer) return;
+        paintedSequence = particles.getSequence();
+        if (layer != paintedLayer || particles.size() != paintedCount) {
+            paintAll(layer, particles);
+            return;
+        }
+        changedCount = 0;
+        for (int i = 0; i < paintedCount; i++) {
+            RenderItem particle = particles.get(i);
+            int size = (int) particle.getSize(), left = getLeft(particle), top = getTop(particle);
+            if (left == paintedLefts[i] && top == paintedTops[i] && size == paintedSizes[i] && particle.getHexColor() == paintedColors[i]) continue;
+            change(paintedLefts[i], paintedTops[i], paintedSizes[i]);
+            remember(i, particle);
+            change(left, top, size);
+        }
+        for (int i = 0; i < changedCount; i++) {
+            repaint(layer, changedLefts[i], changedTops[i], changedSizes[i]);
+        }
+        layer.getDiscRasterizer().resetClip();
+    }
+
+    private void paintAll(BackgroundLayer layer, RenderSnapshot particles) {
+        paintedLayer = layer;
+        paintedCount = particles.size();
+        if (paintedLefts.length < paintedCount) {
+            paintedLefts = Arrays.copyOf(paintedLefts, paintedCount);
+            paintedTops = Arrays.copyOf(paintedTops, paintedCount);
+            paintedSizes = Arrays.copyOf(paintedSizes, paintedCount);
+            paintedColors = Arrays.copyOf(paintedColors, paintedCount);
+            changedLefts = new int[paintedCount * 2];
+            changedTops = new int[paintedCount * 2];
+            changedSizes = new int[paintedCount * 2];
+        }
+        DiscRasterizer rasterizer = layer.getDiscRasterizer();
+        layer.clear();
+        for (int i = 0; i < paintedCount; i++) {
+            RenderItem particle = particles.get(i);
+            remember(i, particle);
+            ParticlePainter.add(rasterizer, particle, 1);
+        }
+        rasterizer.flush();
+    }
+
+    private void change(int left, int top, int size) {
+        changedLefts[changedCount] = left;
+        changedTops[changedCount] = top;
+        changedSizes[changedCount] = size;
+        changedCount++;
+    }
+
+    private void repaint(BackgroundLayer layer, int left, int top, int size) {
+        left -= PARTICLE_MARGIN;
+        top -= PARTICLE_MARGIN;
+        int right = left + size + PARTICLE_MARGIN * 2, bottom = top + size + PARTICLE_MARGIN * 2;
+        region.setRect(left, top, right - left, bottom - top);
+        layer.clear(region);
+        DiscRasterizer rasterizer = layer.getDiscRasterizer();
+        for (int i = 0; i < paintedCount; i++) {
+            int particleLeft = paintedLefts[i] - PARTICLE_MARGIN, particleTop = paintedTops[i] - PARTICLE_MARGIN;
+            int particleSize = paintedSizes[i] + PARTICLE_MARGIN * 2;
+            if (particleLeft >= right || particleTop >= bottom || particleLeft + particleSize <= left || particleTop + particleSize <= top) continue;
+            rasterizer.add(paintedLefts[i], paintedTops[i], paintedSizes[i], paintedColors[i]);
+        }
+        rasterizer.flush();
+    }
+
+    private void remember(int index, RenderItem particle) {
+        paintedLefts[index] = getLeft(particle);
+        paintedTops[index] = getTop(particle);
+        paintedSizes[index] = (int) particle.getSize();
+        paintedColors[index] = particle.getHexColor();
+    }
+
+    private static int getLeft(RenderItem particle) {
+        return (int) particle.getX(1) - ((int) particle.getSize() / 2);
+    }
+
+    private static int getTop(RenderItem particle) {
+        return (int) particle.getY(1) - ((int) particle.getSize() / 2);
+    }
+
+}
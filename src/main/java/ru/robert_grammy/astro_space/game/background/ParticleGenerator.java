@@ -1,69 +1,130 @@
 package ru.robert_grammy.astro_space.game.background;
 
 import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.Painter;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
 import ru.robert_grammy.astro_space.engine.Renderable;
 import ru.robert_grammy.astro_space.engine.Updatable;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
-import ru.robert_grammy.astro_space.utils.rnd.RandomDoubleValueRange;
+import ru.robert_grammy.astro_space.game.powerup.PowerUp;
 import ru.robert_grammy.astro_space.utils.rnd.RandomIntegerValueRange;
+import ru.robert_grammy.astro_space.utils.rnd.RandomValueRange;
 
-import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 public class ParticleGenerator implements Renderable, Updatable {
 
     public static final int BASE_STARS_COUNT = 375;
     public static final int STARS_Z_INDEX = 0;
-    private static final RandomIntegerValueRange PUFF_SIZE_RANGE = new RandomIntegerValueRange(15, 40);
-    private static final RandomIntegerValueRange EXPLOSION_SIZE_RANGE = new RandomIntegerValueRange(15, 40);
-    private static final RandomIntegerValueRange SMOKE_SIZE_RANGE = new RandomIntegerValueRange(30, 60);
     private static final RandomIntegerValueRange FIRE_TRAIL_COLOR_OFFSET_RANGE = new RandomIntegerValueRange(0x11, 0x55);
-    private static final RandomIntegerValueRange FIRE_TRAIL_SIZE_RANGE = new RandomIntegerValueRange(3, 12);
-    private static final RandomDoubleValueRange EXPLOSION_ALPHA_RANGE = new RandomDoubleValueRange(30.0, 200.0);
-    private static final RandomDoubleValueRange EXPLOSION_FADE_SPEED_RANGE = new RandomDoubleValueRange(2.0, 5.0);
-    private static final RandomDoubleValueRange SMOKE_ALPHA_RANGE = new RandomDoubleValueRange(40.0, 250.0);
-    private static final RandomDoubleValueRange SMOKE_FADE_SPEED_RANGE = new RandomDoubleValueRange(1.0, 4.0);
-    private static final RandomDoubleValueRange FIRE_TRAIL_ALPHA_RANGE = new RandomDoubleValueRange(50.0, 250.0);
-    private static final RandomDoubleValueRange FIRE_TRAIL_FADE_SPEED_RANGE = new RandomDoubleValueRange(.75, 2.5);
-    private static final RandomDoubleValueRange PUFF_ALPHA_RANGE = new RandomDoubleValueRange(30.0, 150.0);
-    private static final RandomDoubleValueRange PUFF_FADE_SPEED_RANGE = new RandomDoubleValueRange(2.0, 3.0);
+    private static final int STARS_BOUND_OFFSET = 25;
+    private static final int LAYER_ALPHA_STEP = 16;
     private static final int FIRE_TRAIL_BOUND_SIZE = 7;
-    private static final int FIRE_TRAIL_BASE_HEX_COLOR = 0x571B06;
+    private static final int FIRE_TRAIL_CAPACITY = 512;
     private static final int FIRE_TRAIL_PARTICLE_Z_INDEX = 30;
     private static final int DEFAULT_PARTICLES_COUNT = 50;
     private static final int DEFAULT_Z_INDEX = 100;
-    private static final int SMOKE_HEX_COLOR = 0xEEFFEE;
     private static final int SMOKE_PARTICLE_SIZE = 40;
     private static final int PUFF_PARTICLE_COUNT = 50;
     private static final int PUFF_PARTICLE_SIZE = 30;
-    private static final int PUFF_PARTICLE_COLOR = 0x117711;
     private static final int PUFF_PARTICLE_BOUND_SIZE = 50;
 
+    private static final ParticlePainter PAINTER = new ParticlePainter();
+    private final ParticlePreset preset;
     private final int zIndex;
-    private final List<Particle> particles = new ArrayList<>();
-    private List<Particle> duplicate;
-
-    public ParticleGenerator(int count, int zIndex) {
+    private final double[] x, y;
+    private final double[] left, top, width, height;
+    private final double[] alpha, fadeSpeed;
+    private final int[] size, hexColor;
+    private final boolean[] alive;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int aliveCount;
+    private boolean isRecurring = true;
+    private boolean isPersistent = false;
+    private LayerPainter layer;
+    private boolean isLayerDirty = true;
+
+    public ParticleGenerator(ParticlePreset preset, int capacity, int zIndex) {
+        this.preset = preset;
         this.zIndex = zIndex;
-        for (int i = 0; i<count; i++) {
-            particles.add(new Particle(this));
+        x = new double[capacity];
+        y = new double[capacity];
+        left = new double[capacity];
+        top = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        alpha = new double[capacity];
+        fadeSpeed = new double[capacity];
+        size = new int[capacity];
+        hexColor = new int[capacity];
+        alive = new boolean[capacity];
+        freeSlots = new int[capacity];
+        for (int slot = capacity - 1; slot >= 0; slot--) {
+            freeSlots[freeCount++] = slot;
         }
-        updateParticlesList();
     }
 
-    public ParticleGenerator(int count, int zIndex, Rectangle bound, RandomIntegerValueRange sizeRange, RandomDoubleValueRange alphaRange, RandomDoubleValueRange fadeSpeedRange, int hexColor) {
-        this.zIndex = zIndex;
-        for (int i = 0; i<count; i++) {
-            particles.add(new Particle(this, bound, sizeRange, alphaRange, fadeSpeedRange, hexColor));
+    public boolean emit(double left, double top, double width, double height, int hexColor) {
+        if (freeCount == 0) return false;
+        int slot = freeSlots[--freeCount];
+        alive[slot] = true;
+        aliveCount++;
+        this.left[slot] = left;
+        this.top[slot] = top;
+        this.width[slot] = width;
+        this.height[slot] = height;
+        this.hexColor[slot] = hexColor;
+        randomize(slot);
+        return true;
+    }
+
+    public void emit(int count, double left, double top, double width, double height, int hexColor) {
+        for (int i = 0; i < count; i++) {
+            if (!emit(left, top, width, height, hexColor)) return;
         }
     }
 
+    private void randomize(int slot) {
+        size[slot] = RandomValueRange.RND.nextInt(preset.sizeRange().getOrigin(), preset.sizeRange().getBound());
+        alpha[slot] = RandomValueRange.RND.nextDouble(preset.alphaRange().getOrigin(), preset.alphaRange().getBound());
+        x[slot] = RandomValueRange.RND.nextDouble(left[slot], left[slot] + width[slot]);
+        y[slot] = RandomValueRange.RND.nextDouble(top[slot], top[slot] + height[slot]);
+        fadeSpeed[slot] = RandomValueRange.RND.nextDouble(preset.fadeSpeedRange().getOrigin(), preset.fadeSpeedRange().getBound());
+        isLayerDirty = true;
+    }
+
+    private void release(int slot) {
+        alive[slot] = false;
+        aliveCount--;
+        freeSlots[freeCount++] = slot;
+        isLayerDirty = true;
+    }
+
     @Override
-    public void render(Graphics2D graphics) {
-        if (Optional.ofNullable(duplicate).isPresent())
-            duplicate.forEach(particle -> particle.render(graphics));
+    public void capture(RenderSnapshot snapshot) {
+        if (Optional.ofNullable(layer).isPresent()) {
+            snapshot.add(layer, zIndex);
+            return;
+        }
+        capture(snapshot, PAINTER);
+    }
+
+    private void capture(RenderSnapshot snapshot, Painter painter) {
+        for (int slot = 0; slot < alive.length; slot++) {
+            if (!alive[slot]) continue;
+            snapshot.add(painter, zIndex)
+                    .setPosition(x[slot], y[slot])
+                    .setSize(size[slot])
+                    .setBoundingRadius(size[slot] / 2.0 + 1)
+                    .setHexColor(hexColor[slot] + (getVisibleAlpha(slot) << 24));
+        }
+    }
+
+    private int getVisibleAlpha(int slot) {
+        int visibleAlpha = (int) (alpha[slot] < 0 ? 0 : alpha[slot]);
+        if (Optional.ofNullable(layer).isEmpty()) return visibleAlpha;
+        return visibleAlpha - visibleAlpha % LAYER_ALPHA_STEP;
     }
 
     @Override
@@ -73,61 +134,85 @@ public class ParticleGenerator implements Renderable, Updatable {
 
     @Override
     public void update() {
-        if (particles.isEmpty()) Main.getGame().unregister(this);
-        updateParticlesList();
-        duplicate.forEach(Particle::update);
+        if (aliveCount == 0 && !isPersistent) Main.getGame().unregister(this);
+        if (Optional.ofNullable(layer).isPresent()) refreshLayer();
+        if (Main.getGame().getPlayer().onPower(PowerUp.PowerType.FREEZER)) return;
+        for (int slot = 0; slot < alive.length; slot++) {
+            if (!alive[slot]) continue;
+            int visibleAlpha = getVisibleAlpha(slot);
+            alpha[slot] -= fadeSpeed[slot];
+            if (getVisibleAlpha(slot) != visibleAlpha) isLayerDirty = true;
+            if (alpha[slot] > 0) continue;
+            if (isRecurring) {
+                randomize(slot);
+            } else {
+                release(slot);
+            }
+        }
+    }
+
+    private void refreshLayer() {
+        if (!isLayerDirty) return;
+        RenderSnapshot particles = layer.getBackBuffer();
+        particles.clear();
+        capture(particles, layer);
+        layer.publish();
+        isLayerDirty = false;
     }
 
-    public void remove(Particle particle) {
-        particles.remove(particle);
+    public void setLayered(boolean value) {
+        layer = value ? new LayerPainter() : null;
+        isLayerDirty = true;
     }
 
     public void setRecurring(boolean value) {
-        if (!value) particles.forEach(particle -> particle.setRecurring(false));
+        isRecurring = value;
+    }
+
+    public void setPersistent(boolean value) {
+        isPersistent = value;
     }
 
-    private void updateParticlesList() {
-        duplicate = new ArrayList<>(particles);
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public void emitTrail(Vector position) {
+        int hexColor = preset.hexColor() + (FIRE_TRAIL_COLOR_OFFSET_RANGE.randomValue() << 8);
+        emit((int) (position.getX() - (FIRE_TRAIL_BOUND_SIZE / 2)), (int) (position.getY() - (FIRE_TRAIL_BOUND_SIZE / 2)), FIRE_TRAIL_BOUND_SIZE, FIRE_TRAIL_BOUND_SIZE, hexColor);
+    }
+
+    public static ParticleGenerator createStars() {
+        ParticleGenerator stars = new ParticleGenerator(ParticlePreset.STAR, BASE_STARS_COUNT, STARS_Z_INDEX);
+        stars.setLayered(true);
+        double width = Main.getGame().getWindow().getBufferWidth() - STARS_BOUND_OFFSET * 2;
+        double height = Main.getGame().getWindow().getBufferHeight() - STARS_BOUND_OFFSET * 2;
+        stars.emit(BASE_STARS_COUNT, STARS_BOUND_OFFSET, STARS_BOUND_OFFSET, width, height, ParticlePreset.STAR.hexColor());
+        return stars;
     }
 
     public static ParticleGenerator createExplosion(Vector position, int size, int hexColor) {
-        Rectangle explosionBound = new Rectangle((int) position.getX() - (size / 2),  (int) position.getY() - (size / 2), size, size);
-        return new ParticleGenerator(
-                DEFAULT_PARTICLES_COUNT,
-                DEFAULT_Z_INDEX,
-                explosionBound,
-                EXPLOSION_SIZE_RANGE,
-                EXPLOSION_ALPHA_RANGE,
-                EXPLOSION_FADE_SPEED_RANGE,
-                hexColor
-        );
+        ParticleGenerator explosion = new ParticleGenerator(ParticlePreset.EXPLOSION, DEFAULT_PARTICLES_COUNT, DEFAULT_Z_INDEX);
+        explosion.emit(DEFAULT_PARTICLES_COUNT, (int) position.getX() - (size / 2), (int) position.getY() - (size / 2), size, size, hexColor);
+        return explosion;
     }
 
     public static ParticleGenerator createSmoke(Vector position) {
-        Rectangle smokeBound = new Rectangle((int) position.getX() - (SMOKE_PARTICLE_SIZE / 2),  (int) position.getY() - (SMOKE_PARTICLE_SIZE / 2), SMOKE_PARTICLE_SIZE, SMOKE_PARTICLE_SIZE);
-        return new ParticleGenerator(
-                DEFAULT_PARTICLES_COUNT,
-                DEFAULT_Z_INDEX,
-                smokeBound,
-                SMOKE_SIZE_RANGE,
-                SMOKE_ALPHA_RANGE,
-                SMOKE_FADE_SPEED_RANGE,
-                SMOKE_HEX_COLOR
-        );
-    }
-
-    public static Particle createTrailParticle(Vector position) {
-        Rectangle trailBound = new Rectangle((int) (position.getX() - (FIRE_TRAIL_BOUND_SIZE / 2)), (int) (position.getY() - (FIRE_TRAIL_BOUND_SIZE / 2)), FIRE_TRAIL_BOUND_SIZE, FIRE_TRAIL_BOUND_SIZE);
-        int hexColor = FIRE_TRAIL_BASE_HEX_COLOR + (FIRE_TRAIL_COLOR_OFFSET_RANGE.randomValue() << 8);
-        Particle particle = new Particle(trailBound, FIRE_TRAIL_SIZE_RANGE, FIRE_TRAIL_ALPHA_RANGE, FIRE_TRAIL_FADE_SPEED_RANGE, hexColor);
-        particle.setZIndex(FIRE_TRAIL_PARTICLE_Z_INDEX);
-        particle.setRecurring(false);
-        return particle;
+        ParticleGenerator smoke = new ParticleGenerator(ParticlePreset.SMOKE, DEFAULT_PARTICLES_COUNT, DEFAULT_Z_INDEX);
+        smoke.emit(DEFAULT_PARTICLES_COUNT, (int) position.getX() - (SMOKE_PARTICLE_SIZE / 2), (int) position.getY() - (SMOKE_PARTICLE_SIZE / 2), SMOKE_PARTICLE_SIZE, SMOKE_PARTICLE_SIZE, ParticlePreset.SMOKE.hexColor());
+        return smoke;
+    }
+
+    public static ParticleGenerator createTrail() {
+        ParticleGenerator trail = new ParticleGenerator(ParticlePreset.FIRE_TRAIL, FIRE_TRAIL_CAPACITY, FIRE_TRAIL_PARTICLE_Z_INDEX);
+        trail.setRecurring(false);
+        trail.setPersistent(true);
+        return trail;
     }
 
     public static ParticleGenerator createPuff(Vector position) {
-        Rectangle puffBound = new Rectangle((int) (position.getX() - (PUFF_PARTICLE_BOUND_SIZE / 2)), (int) (position.getY() - (PUFF_PARTICLE_BOUND_SIZE / 2)), PUFF_PARTICLE_BOUND_SIZE, PUFF_PARTICLE_BOUND_SIZE);
-        ParticleGenerator puff = new ParticleGenerator(PUFF_PARTICLE_COUNT, PUFF_PARTICLE_SIZE, puffBound, PUFF_SIZE_RANGE, PUFF_ALPHA_RANGE, PUFF_FADE_SPEED_RANGE, PUFF_PARTICLE_COLOR);
+        ParticleGenerator puff = new ParticleGenerator(ParticlePreset.PUFF, PUFF_PARTICLE_COUNT, PUFF_PARTICLE_SIZE);
+        puff.emit(PUFF_PARTICLE_COUNT, (int) (position.getX() - (PUFF_PARTICLE_BOUND_SIZE / 2)), (int) (position.getY() - (PUFF_PARTICLE_BOUND_SIZE / 2)), PUFF_PARTICLE_BOUND_SIZE, PUFF_PARTICLE_BOUND_SIZE, ParticlePreset.PUFF.hexColor());
         puff.setRecurring(false);
         return puff;
     }
@@ -0,0 +1,72 @@
+package ru.robert_grammy.astro_space.game.background;
+
+import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.BatchPainter;
+import ru.robert_grammy.astro_space.engine.RenderItem;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
+import ru.robert_grammy.astro_space.graphics.CanvasImage;
+import ru.robert_grammy.astro_space.graphics.DiscRasterizer;
+
+import java.awt.*;
+
+class ParticlePainter implements BatchPainter {
+
+    private static final int COLOR_CACHE_BITS = 12;
+    private static final int[] cachedHexColors = new int[1 << COLOR_CACHE_BITS];
+    private static final Color[] cachedColors = new Color[1 << COLOR_CACHE_BITS];
+
+    @Override
+    public void paint(Graphics2D graphics, RenderItem item, double interpolation) {
+        CanvasImage canvas = getCanvasImage();
+        if (canvas.isAccelerated()) {
+            fill(graphics, item, interpolation);
+            return;
+        }
+        DiscRasterizer rasterizer = canvas.getDiscRasterizer();
+        add(rasterizer, item, interpolation);
+        rasterizer.flush();
+    }
+
+    @Override
+    public void paint(Graphics2D graphics, RenderSnapshot snapshot, int from, int to, double interpolation) {
+        CanvasImage canvas = getCanvasImage();
+        if (canvas.isAccelerated()) {
+            for (int i = from; i < to; i++) {
+                fill(graphics, snapshot.get(i), interpolation);
+            }
+            return;
+        }
+        DiscRasterizer rasterizer = canvas.getDiscRasterizer();
+        for (int i = from; i < to; i++) {
+            add(rasterizer, snapshot.get(i), interpolation);
+        }
+        rasterizer.flush();
+    }
+
+    static void add(DiscRasterizer rasterizer, RenderItem item, double interpolation) {
+        int size = (int) item.getSize();
+        rasterizer.add((int) item.getX(interpolation) - (size / 2), (int) item.getY(interpolation) - (size / 2), size, item.getHexColor());
+    }
+
+    private static void fill(Graphics2D graphics, RenderItem item, double interpolation) {
+        int size = (int) item.getSize();
+        graphics.setColor(getColor(item.getHexColor()));
+        graphics.fillOval((int) item.getX(interpolation) - (size / 2), (int) item.getY(interpolation) - (size / 2), size, size);
+    }
+
+    private static Color getColor(int hexColor) {
+        int index = (hexColor * 0x9E3779B9) >>> (Integer.SIZE - COLOR_CACHE_BITS);
+        Color color = cachedColors[index];
+        if (color == null || cachedHexColors[index] != hexColor) {
+            color = new Color(hexColor, true);
+            cachedColors[index] = color;
+            cachedHexColors[index] = hexColor;
+        }
+        return color;
+    }
+
+    private static CanvasImage getCanvasImage() {
+        return Main.getGame().getWindow().getCanvasImage();
+    }
+
+}
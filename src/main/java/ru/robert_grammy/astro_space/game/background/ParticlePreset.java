@@ -0,0 +1,39 @@
+package ru.robert_grammy.astro_space.game.background;
+
+import ru.robert_grammy.astro_space.utils.rnd.RandomDoubleValueRange;
+import ru.robert_grammy.astro_space.utils.rnd.RandomIntegerValueRange;
+
+public record ParticlePreset(RandomIntegerValueRange sizeRange, RandomDoubleValueRange alphaRange, RandomDoubleValueRange fadeSpeedRange, int hexColor) {
+
+    public static final ParticlePreset STAR = new ParticlePreset(
+            new RandomIntegerValueRange(3, 20),
+            new RandomDoubleValueRange(80.0, 220.0),
+            new RandomDoubleValueRange(.025, 5.0),
+            0xAB9AB2
+    );
+    public static final ParticlePreset EXPLOSION = new ParticlePreset(
+            new RandomIntegerValueRange(15, 40),
+            new RandomDoubleValueRange(30.0, 200.0),
+            new RandomDoubleValueRange(2.0, 5.0),
+            0xFFFFFF
+    );
+    public static final ParticlePreset SMOKE = new ParticlePreset(
+            new RandomIntegerValueRange(30, 60),
+            new RandomDoubleValueRange(40.0, 250.0),
+            new RandomDoubleValueRange(1.0, 4.0),
+            0xEEFFEE
+    );
+    public static final ParticlePreset FIRE_TRAIL = new ParticlePreset(
+            new RandomIntegerValueRange(3, 12),
+            new RandomDoubleValueRange(50.0, 250.0),
+            new RandomDoubleValueRange(.75, 2.5),
+            0x571B06
+    );
+    public static final ParticlePreset PUFF = new ParticlePreset(
+            new RandomIntegerValueRange(15, 40),
+            new RandomDoubleValueRange(30.0, 150.0),
+            new RandomDoubleValueRange(2.0, 3.0),
+            0x117711
+    );
+
+}
@@ -1,21 +1,23 @@
 package ru.robert_grammy.astro_space.game.player;
 
 import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.EntityStore;
+import ru.robert_grammy.astro_space.engine.RenderItem;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
 import ru.robert_grammy.astro_space.engine.Renderable;
-import ru.robert_grammy.astro_space.engine.geometry.StraightLine;
+import ru.robert_grammy.astro_space.engine.geometry.Segments;
 import ru.robert_grammy.astro_space.engine.Updatable;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
 import ru.robert_grammy.astro_space.engine.sound.GameSound;
 import ru.robert_grammy.astro_space.engine.sound.Sound;
 import ru.robert_grammy.astro_space.game.asteroid.Asteroid;
 import ru.robert_grammy.astro_space.game.powerup.PowerUp;
+import ru.robert_grammy.astro_space.game.shape.VertexView;
 
 import java.awt.*;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
 
-public class Bullet implements Renderable, Updatable {
+public class Bullet implements Renderable, Updatable, EntityStore.Handle {
 
     private static final Color FILL_COLOR = Color.BLACK;
     private static final Color OUTLINE_COLOR = Color.WHITE;
@@ -25,30 +27,39 @@ public class Bullet implements Renderable, Updatable {
     private static final int SCORE_DEPENDENT_ON_ASTEROID_COEFFICIENT = 4;
     private static final double MAX_SCORE_DEPENDENT_ON_ASTEROID_SIZE = 50.0;
     private static final double MAX_SCORE_DEPENDENT_ON_ASTEROID_MOVEMENT_SPEED = .75;
-    private int size = 7;
+    private final EntityStore store = Main.getGame().getBulletStore();
     private final Stroke stroke;
-    private final Vector position;
-    private final Vector movement;
-    private final Vector lastPosition;
     private final boolean doubleDamage;
+    private int slot;
 
     public Bullet(Vector position, Vector movement) {
-        this.position = position;
-        this.movement = movement;
-        lastPosition = position.clone();
+        store.allocate(this);
+        store.snapPosition(slot, position.getX(), position.getY());
+        store.setVelocity(slot, movement.getX(), movement.getY());
         doubleDamage = Main.getGame().getPlayer().onPower(PowerUp.PowerType.DOUBLE_DAMAGE);
-        size = doubleDamage ? size * 2 : size;
+        store.setSize(slot, doubleDamage ? DEFAULT_BULLET_SIZE * 2 : DEFAULT_BULLET_SIZE);
         float lineWeight = doubleDamage ? 1 : 2;
         stroke = new BasicStroke(lineWeight, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
     }
 
     @Override
-    public void render(Graphics2D graphics) {
-        graphics.setStroke(stroke);
+    public void capture(RenderSnapshot snapshot) {
+        snapshot.add(Bullet::paint, Z_INDEX)
+                .setPosition(store.getPreviousX(slot), store.getPreviousY(slot), store.getX(slot), store.getY(slot))
+                .setSize(store.getSize(slot))
+                .setBoundingRadius(store.getSize(slot))
+                .setSource(stroke);
+    }
+
+    private static void paint(Graphics2D graphics, RenderItem item, double interpolation) {
+        int size = (int) item.getSize();
+        int x = (int) item.getX(interpolation) - (size / 2);
+        int y = (int) item.getY(interpolation) - (size / 2);
+        graphics.setStroke((Stroke) item.getSource());
         graphics.setColor(FILL_COLOR);
-        graphics.fillOval((int) position.getX() - (size / 2), (int) position.getY() - (size / 2), size, size);
+        graphics.fillOval(x, y, size, size);
         graphics.setColor(OUTLINE_COLOR);
-        graphics.drawOval((int) position.getX() - (size / 2), (int) position.getY() - (size / 2), size, size);
+        graphics.drawOval(x, y, size, size);
     }
 
     public void destroy() {
@@ -62,37 +73,47 @@ public class Bullet implements Renderable, Updatable {
 
     @Override
     public void update() {
-        lastPosition.setXY(position);
-        position.add(movement);
-        if (position.getX() < 0 || position.getX() > Main.getGame().getWindow().getBufferWidth() || position.getY() < 0 || position.getY() > Main.getGame().getWindow().getBufferHeight()) destroy();
-        Vector futurePosition = position.clone().add(movement);
-        if (Optional.ofNullable(futurePosition).isEmpty()) return;
-        StraightLine bulletLine = new StraightLine(futurePosition, lastPosition);
-        Stream<Updatable> stream = Main.getGame().getUpdatables().stream();
-        stream.filter(updatable -> updatable instanceof Asteroid).map(updatable -> (Asteroid) updatable).filter(Asteroid::isNotDestroyed).forEach(asteroid -> {
-            List<Vector> asteroidPoints = asteroid.getShape().getRealPoints(asteroid.getPosition());
+        double x = store.getX(slot);
+        double y = store.getY(slot);
+        if (x < 0 || x > Main.getGame().getWindow().getBufferWidth() || y < 0 || y > Main.getGame().getWindow().getBufferHeight()) destroy();
+        double futureX = x + store.getVelocityX(slot);
+        double futureY = y + store.getVelocityY(slot);
+        double lastX = store.getPreviousX(slot);
+        double lastY = store.getPreviousY(slot);
+        List<Asteroid> candidates = Main.getGame().getAsteroidGrid().query(futureX, futureY, lastX, lastY);
+        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+            Asteroid asteroid = candidates.get(candidate);
+            if (!asteroid.isNotDestroyed()) continue;
+            VertexView asteroidPoints = asteroid.getShape().getRealPoints(asteroid.getX(), asteroid.getY());
             for (int i = 0; i<asteroidPoints.size(); i++) {
-                Vector asteroidA = asteroidPoints.get(i);
-                Vector asteroidB = asteroidPoints.get(i + 1 == asteroidPoints.size() ? 0 : i + 1);
-                StraightLine asteroidLine = new StraightLine(asteroidA, asteroidB);
-                if (asteroidLine.isParallel(bulletLine)) continue;
-                Vector cross = asteroidLine.getPointIntersectionLines(bulletLine);
-                boolean outPlayerYRange = cross.getY() < Math.min(futurePosition.getY(), lastPosition.getY()) || cross.getY() > Math.max(futurePosition.getY(), lastPosition.getY());
-                boolean outPlayerXRange = cross.getX() < Math.min(futurePosition.getX(), lastPosition.getX()) || cross.getX() > Math.max(futurePosition.getX(), lastPosition.getX());
-                boolean outAsteroidYRange = cross.getY() < Math.min(asteroidA.getY(), asteroidB.getY()) || cross.getY() > Math.max(asteroidA.getY(), asteroidB.getY());
-                boolean outAsteroidXRange = cross.getX() < Math.min(asteroidA.getX(), asteroidB.getX()) || cross.getX() > Math.max(asteroidA.getX(), asteroidB.getX());
-                if (outPlayerYRange || outPlayerXRange || outAsteroidYRange || outAsteroidXRange) {
-                    Vector centerOffsetVector = position.clone().subtract(asteroid.getPosition());
-                    if (centerOffsetVector.length() > asteroid.getSize() * 3) continue;
+                int next = asteroidPoints.next(i);
+                double ax = asteroidPoints.getX(i), ay = asteroidPoints.getY(i);
+                double bx = asteroidPoints.getX(next), by = asteroidPoints.getY(next);
+                if (!Segments.intersects(ax, ay, bx, by, futureX, futureY, lastX, lastY)) {
+                    if (Segments.isParallel(ax, ay, bx, by, futureX, futureY, lastX, lastY)) continue;
+                    double xOffset = x - asteroid.getX();
+                    double yOffset = y - asteroid.getY();
+                    double reach = asteroid.getSize() * 3;
+                    if (xOffset * xOffset + yOffset * yOffset > reach * reach) continue;
                 }
                 destroy();
-                double score = (MAX_SCORE_DEPENDENT_ON_ASTEROID_SIZE - asteroid.getSize()) / SCORE_DEPENDENT_ON_ASTEROID_COEFFICIENT + (double) (size / DEFAULT_BULLET_SIZE) + asteroid.getInertia().length() / MAX_SCORE_DEPENDENT_ON_ASTEROID_MOVEMENT_SPEED;
+                double score = (MAX_SCORE_DEPENDENT_ON_ASTEROID_SIZE - asteroid.getSize()) / SCORE_DEPENDENT_ON_ASTEROID_COEFFICIENT + (double) ((int) store.getSize(slot) / DEFAULT_BULLET_SIZE) + asteroid.getSpeed() / MAX_SCORE_DEPENDENT_ON_ASTEROID_MOVEMENT_SPEED;
                 Main.getGame().addScore((int) Math.floor(score));
                 DAMAGE_SOUND.play();
                 asteroid.damage();
                 if (doubleDamage) asteroid.damage();
             }
-        });
+        }
+    }
+
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public void setSlot(int slot) {
+        this.slot = slot;
     }
 
 }
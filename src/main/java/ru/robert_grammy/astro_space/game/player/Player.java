@@ -2,25 +2,24 @@ package ru.robert_grammy.astro_space.game.player;
 
 import ru.robert_grammy.astro_space.Main;
 import ru.robert_grammy.astro_space.engine.*;
-import ru.robert_grammy.astro_space.engine.geometry.StraightLine;
+import ru.robert_grammy.astro_space.engine.geometry.Segments;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
+import ru.robert_grammy.astro_space.engine.geometry.VectorPool;
 import ru.robert_grammy.astro_space.engine.sound.GameSound;
 import ru.robert_grammy.astro_space.engine.sound.Sound;
 import ru.robert_grammy.astro_space.game.asteroid.Asteroid;
-import ru.robert_grammy.astro_space.game.background.Particle;
 import ru.robert_grammy.astro_space.game.background.ParticleGenerator;
 import ru.robert_grammy.astro_space.game.powerup.PowerUp;
 import ru.robert_grammy.astro_space.game.shape.ShapeManager;
 import ru.robert_grammy.astro_space.game.shape.LineShape;
+import ru.robert_grammy.astro_space.game.shape.ShapeOutline;
+import ru.robert_grammy.astro_space.game.shape.VertexView;
 import ru.robert_grammy.astro_space.utils.QMath;
 import ru.robert_grammy.astro_space.utils.rnd.RandomValueRange;
 
 import javax.sound.sampled.Clip;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.awt.geom.GeneralPath;
-import java.util.List;
-import java.util.Optional;
 
 import static ru.robert_grammy.astro_space.game.powerup.PowerUp.*;
 
@@ -61,53 +60,54 @@ public class Player implements Updatable, Renderable {
     private boolean isDestroyed = false;
     private final double defaultScale;
     private final double scaleIncrementCoefficient;
-    private final Stroke shapeStroke;
     private final LineShape shape;
     private final Vector position;
+    private final Vector previousPosition;
     private final Vector movement;
+    private final ParticleGenerator trail;
     private ParticleGenerator explosion;
     private PowerType powerUpType;
 
     public Player(Vector position) {
         this.position = position;
+        previousPosition = position.clone();
         movement = Vector.getZero();
+        trail = ParticleGenerator.createTrail();
+        Main.getGame().register(trail);
         shape = ShapeManager.PLAYER_STARSHIP.getShape();
         START_GAME_SOUND.play();
         GameSound.playAfter(START_GAME_SOUND, BACKGROUND_SOUND, Clip.LOOP_CONTINUOUSLY, false, 500).start();
-        shapeStroke = new BasicStroke(shape.getLineWeight(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
         defaultScale = shape.getScale();
         scaleIncrementCoefficient = ((defaultScale / SHAPE_SMALLER_POWER_UP_SCALE) / PowerType.SMALLER.getDuration());
     }
 
     @Override
-    public void render(Graphics2D graphics) {
+    public void capture(RenderSnapshot snapshot) {
         if (isDestroyed) return;
-        GeneralPath path = new GeneralPath();
-        Vector firstPoint = null;
-        for (Vector point : shape.getRealPoints(position)) {
-            if (firstPoint == null) {
-                firstPoint = point;
-                path.moveTo(firstPoint.getX(), firstPoint.getY());
-            }
-            path.lineTo(point.getX(), point.getY());
-        }
-        firstPoint = Optional.ofNullable(firstPoint).orElse(Vector.getUndefined());
-        path.lineTo(firstPoint.getX(), firstPoint.getY());
-        path.closePath();
-        graphics.setColor(shape.getFillColor());
-        graphics.fill(path);
-        graphics.setStroke(shapeStroke);
-        graphics.setColor(shape.getLineColor());
-        if (onPower(PowerType.FIRE_RATE)) graphics.setColor(Color.YELLOW);
-        if (onPower(PowerType.DOUBLE_SCORE)) graphics.setColor(Color.GREEN);
-        graphics.draw(path);
-        if (onPower(PowerType.INVINCIBLE)) {
-            if (powerUpDuration > INVINCIBLE_SHIELD_BLINK_TIME || powerUpDuration % INVINCIBLE_SHIELD_BLINK_RATE_COEFFICIENT == 0) {
-                graphics.setColor(INVINCIBLE_SHIELD_FILL_COLOR);
-                graphics.fillOval((int) position.getX() - (INVINCIBLE_SHIELD_SIZE / 2), (int) position.getY() - (INVINCIBLE_SHIELD_SIZE / 2), INVINCIBLE_SHIELD_SIZE, INVINCIBLE_SHIELD_SIZE);
-                graphics.setColor(INVINCIBLE_SHIELD_OUTLINE_COLOR);
-                graphics.drawOval((int) position.getX() - (INVINCIBLE_SHIELD_SIZE / 2), (int) position.getY() - (INVINCIBLE_SHIELD_SIZE / 2), INVINCIBLE_SHIELD_SIZE, INVINCIBLE_SHIELD_SIZE);
-            }
+        Color lineColor = shape.getLineColor();
+        if (onPower(PowerType.FIRE_RATE)) lineColor = Color.YELLOW;
+        if (onPower(PowerType.DOUBLE_SCORE)) lineColor = Color.GREEN;
+        boolean shieldVisible = onPower(PowerType.INVINCIBLE) && (powerUpDuration > INVINCIBLE_SHIELD_BLINK_TIME || powerUpDuration % INVINCIBLE_SHIELD_BLINK_RATE_COEFFICIENT == 0);
+        snapshot.add(Player::paint, Z_INDEX)
+                .setPosition(previousPosition, position)
+                .setRotation(shape.getPreviousRotation(), shape.getRotation())
+                .setScale(shape.getScale())
+                .setBoundingRadius(Math.max(shape.getBoundingRadius() + shape.getLineWeight(), INVINCIBLE_SHIELD_SIZE / 2.0 + 1))
+                .setColors(shape.getFillColor(), lineColor)
+                .setVariant(shieldVisible ? 1 : 0)
+                .setSource(shape.getOutline());
+    }
+
+    private static void paint(Graphics2D graphics, RenderItem item, double interpolation) {
+        ShapeOutline outline = (ShapeOutline) item.getSource();
+        double x = item.getX(interpolation);
+        double y = item.getY(interpolation);
+        outline.paint(graphics, x, y, item.getRotation(interpolation), item.getScale(), item.getFillColor(), item.getLineColor(), outline.getLineWeight());
+        if (item.getVariant() == 1) {
+            graphics.setColor(INVINCIBLE_SHIELD_FILL_COLOR);
+            graphics.fillOval((int) x - (INVINCIBLE_SHIELD_SIZE / 2), (int) y - (INVINCIBLE_SHIELD_SIZE / 2), INVINCIBLE_SHIELD_SIZE, INVINCIBLE_SHIELD_SIZE);
+            graphics.setColor(INVINCIBLE_SHIELD_OUTLINE_COLOR);
+            graphics.drawOval((int) x - (INVINCIBLE_SHIELD_SIZE / 2), (int) y - (INVINCIBLE_SHIELD_SIZE / 2), INVINCIBLE_SHIELD_SIZE, INVINCIBLE_SHIELD_SIZE);
         }
     }
 
@@ -118,6 +118,8 @@ public class Player implements Updatable, Renderable {
 
     @Override
     public void update() {
+        previousPosition.setXY(position);
+        shape.savePreviousRotation();
         if (!isDestroyed) {
             control();
             movement();
@@ -143,10 +145,10 @@ public class Player implements Updatable, Renderable {
         }
 
         if (keyboard.pressed(KeyEvent.VK_UP)) {
-            movement.multiply(DECREASE_MOVEMENT_SPEED_COEFFICIENT).add(getDirection().multiply(INCREASE_MOVEMENT_SPEED_COEFFICIENT));
-            Vector particleCenter = position.clone().subtract(getDirection().normalize().multiply(FIRE_TRAIL_POINT_OFFSET_OF_PLAYER_POSITION));
-            Particle particle = ParticleGenerator.createTrailParticle(particleCenter);
-            Main.getGame().register(particle);
+            VectorPool vectors = Main.getGame().getVectorPool();
+            movement.multiply(DECREASE_MOVEMENT_SPEED_COEFFICIENT).add(getDirection(vectors.obtain()).multiply(INCREASE_MOVEMENT_SPEED_COEFFICIENT));
+            Vector particleCenter = vectors.obtain(position).subtract(getDirection(vectors.obtain()).normalize().multiply(FIRE_TRAIL_POINT_OFFSET_OF_PLAYER_POSITION));
+            trail.emitTrail(particleCenter);
             if (!FLY_SOUND.isPlaying() && !GAS_ON_SOUND.isPlaying()) {
                 GAS_ON_SOUND.play(false);
             } else if (!FLY_SOUND.isPlaying() && GAS_ON_SOUND.isEnded()) {
@@ -171,7 +173,8 @@ public class Player implements Updatable, Renderable {
                 SHOOT_SOUND.play();
                 shootTimer = DEFAULT_SHOOT_TIME;
                 if (onPower(PowerType.FIRE_RATE)) shootTimer /= SHOOT_TIME_FASTER_COEFFICIENT;
-                Vector firstRealPoint = shape.getRealPoints(position).get(0);
+                VertexView realPoints = shape.getRealPoints(position);
+                Vector firstRealPoint = new Vector(realPoints.getX(0), realPoints.getY(0));
                 Vector bulletMovement = new Vector(firstRealPoint.getX() - position.getX(), firstRealPoint.getY() - position.getY());
                 Bullet bullet = new Bullet(firstRealPoint.add(bulletMovement.normalize().multiply(DEFAULT_BULlET_SPEED)), bulletMovement);
                 Main.getGame().register(bullet);
@@ -213,13 +216,11 @@ public class Player implements Updatable, Renderable {
     }
 
     public void handlePowerUpUp() {
-        Main.getGame().getRenderables().stream().filter(renderable -> renderable instanceof PowerUp).map(powerUp -> (PowerUp) powerUp).forEach(powerUp -> {
-            List<Vector> realPoints = shape.getRealPoints(position);
+        Main.getGame().getEntities(PowerUp.class).forEach(powerUp -> {
+            VertexView realPoints = shape.getRealPoints(position);
             for (int i = 0; i < realPoints.size(); i++) {
-                Vector a = realPoints.get(i);
-                Vector b = realPoints.get(i + 1 == realPoints.size() ? 0 : i + 1);
-                StraightLine line = new StraightLine(a, b);
-                double distanceFromLine = line.distanceFromSegmentToPoint(powerUp.getPosition());
+                int next = realPoints.next(i);
+                double distanceFromLine = Segments.distanceToPoint(realPoints.getX(i), realPoints.getY(i), realPoints.getX(next), realPoints.getY(next), powerUp.getPosition().getX(), powerUp.getPosition().getY());
                 if (distanceFromLine <= (double) (PowerUp.SIZE / 2) + 1) {
                     powerUpUp(powerUp);
                 }
@@ -247,14 +248,19 @@ public class Player implements Updatable, Renderable {
         }
         this.powerUpType = powerUpType;
         if (powerUpType == PowerType.BIG_BOOM) {
-            Main.getGame().getUpdatables().stream().filter(updatable -> updatable instanceof Asteroid).map(asteroid -> (Asteroid) asteroid).forEach(Asteroid::kill);
+            Main.getGame().getEntities(Asteroid.class).forEach(Asteroid::kill);
             return;
         }
         powerUpDuration = powerUpType.getDuration();
     }
 
     public Vector getDirection() {
-        return shape.getXBasisVector().clone().rotate(QMath.DEGREES_OF_RIGHT_ANGLE).rotate(shape.getRotation());
+        return getDirection(Vector.getZero());
+    }
+
+    public Vector getDirection(Vector result) {
+        result.setXY(shape.getXBasisVector());
+        return result.rotate(QMath.DEGREES_OF_RIGHT_ANGLE).rotate(shape.getRotation());
     }
 
     public void destroy() {
@@ -281,6 +287,7 @@ public class Player implements Updatable, Renderable {
 
     public void setPosition(Vector position) {
         this.position.setXY(position);
+        previousPosition.setXY(position);
     }
 
     public void resurrect() {
@@ -292,6 +299,7 @@ public class Player implements Updatable, Renderable {
         timeToNextPowerUpCall = DEFAULT_TIME_TO_POWER_UP_CALL + RandomValueRange.RND.nextInt(BOUND_TIME_TO_POWER_UP_CALL);
         powerUpType = null;
         shape.setRotation(180);
+        shape.savePreviousRotation();
         explosion.setRecurring(false);
         ParticleGenerator smoke = ParticleGenerator.createSmoke(position);
         Main.getGame().register(smoke);
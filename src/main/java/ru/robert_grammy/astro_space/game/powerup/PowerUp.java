@@ -1,21 +1,24 @@
 package ru.robert_grammy.astro_space.game.powerup;
 
 import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.engine.RenderItem;
+import ru.robert_grammy.astro_space.engine.RenderSnapshot;
 import ru.robert_grammy.astro_space.engine.Renderable;
+import ru.robert_grammy.astro_space.engine.Updatable;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
 import ru.robert_grammy.astro_space.engine.sound.GameSound;
 import ru.robert_grammy.astro_space.game.background.ParticleGenerator;
+import ru.robert_grammy.astro_space.graphics.TextSprite;
 import ru.robert_grammy.astro_space.graphics.Window;
 import ru.robert_grammy.astro_space.utils.rnd.RandomIntegerValueRange;
 import ru.robert_grammy.astro_space.utils.rnd.RandomValueRange;
 
 import java.awt.*;
-import java.awt.font.TextLayout;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.stream.IntStream;
 
-public class PowerUp implements Renderable {
+public class PowerUp implements Renderable, Updatable {
 
     public static final Font DEFAULT_POWER_UP_FONT = new Font(Window.FONT_NAME, Font.PLAIN, 20);
     public static final Stroke DEFAULT_POWER_UP_STROKE = new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
@@ -27,11 +30,10 @@ public class PowerUp implements Renderable {
     private static final RandomIntegerValueRange X_RANGE = new RandomIntegerValueRange(25, Main.getGame().getWindow().getBufferWidth() - 25);
     private static final RandomIntegerValueRange Y_RANGE = new RandomIntegerValueRange(25, Main.getGame().getWindow().getBufferHeight() - 25);
     private static final double FADE_SPEED = .15;
+    private static final int MAX_ALPHA = 255;
+    private static final Color[] OUTLINE_COLORS = PowerType.createFadeColors(BASE_HEX_COLOR);
     private final Vector position;
     private final PowerType type;
-    private Color fill;
-    private Color outline;
-    private Color symbolColor;
     private double alpha = .0;
 
     public PowerUp() {
@@ -55,24 +57,32 @@ public class PowerUp implements Renderable {
     }
 
     @Override
-    public void render(Graphics2D graphics) {
-        if (alpha < 255) {
-            alpha += FADE_SPEED;
-            fill = new Color(type.getHexRGB() + ((int) (alpha >= 255 ? 255 : alpha) << 24), true);
-            outline = new Color(BASE_HEX_COLOR + ((int) (alpha >= 255 ? 255 : alpha) << 24), true);
-            symbolColor = new Color(BASE_HEX_COLOR + ((int) (alpha >= 255 ? 255 : alpha) << 24), true);
-        }
-        graphics.setColor(fill);
+    public void update() {
+        if (alpha < MAX_ALPHA) alpha = Math.min(MAX_ALPHA, alpha + FADE_SPEED);
+    }
+
+    @Override
+    public void capture(RenderSnapshot snapshot) {
+        int visibleAlpha = (int) alpha;
+        snapshot.add(PowerUp::paint, Z_INDEX)
+                .setPosition(position.getX(), position.getY())
+                .setBoundingRadius(SIZE / 2.0 + 2)
+                .setColors(type.getFadeColor(visibleAlpha), OUTLINE_COLORS[visibleAlpha])
+                .setSource(type);
+    }
+
+    private static void paint(Graphics2D graphics, RenderItem item, double interpolation) {
+        int x = (int) item.getX(interpolation);
+        int y = (int) item.getY(interpolation);
+        TextSprite symbol = ((PowerType) item.getSource()).getSymbolSprite();
+        graphics.setColor(item.getFillColor());
         graphics.setStroke(DEFAULT_POWER_UP_STROKE);
-        graphics.fillOval((int) position.getX() - (SIZE / 2), (int) position.getY() - (SIZE / 2), SIZE, SIZE);
-        graphics.setColor(outline);
-        graphics.drawOval((int) position.getX() - (SIZE / 2), (int) position.getY() - (SIZE / 2), SIZE, SIZE);
-        graphics.setFont(DEFAULT_POWER_UP_FONT);
-        graphics.setColor(symbolColor);
-        TextLayout textLayout = new TextLayout(type.getSymbol(), DEFAULT_POWER_UP_FONT, graphics.getFontRenderContext());
-        double xTextOffset = textLayout.getBounds().getWidth()/2;
-        double yTextOffset = textLayout.getAscent()/2;
-        graphics.drawString(type.getSymbol(), (int) (position.getX() - xTextOffset), (int) (position.getY() + yTextOffset - 4));
+        graphics.fillOval(x - (SIZE / 2), y - (SIZE / 2), SIZE, SIZE);
+        graphics.setColor(item.getLineColor());
+        graphics.drawOval(x - (SIZE / 2), y - (SIZE / 2), SIZE, SIZE);
+        double xTextOffset = symbol.getWidth()/2;
+        double yTextOffset = symbol.getAscent()/2;
+        symbol.draw(graphics, (int) (x - xTextOffset), (int) (y + yTextOffset - 4), item.getLineColor().getAlpha() / 255f);
     }
 
     @Override
@@ -103,12 +113,15 @@ public class PowerUp implements Renderable {
         private final int rgb;
         private final int duration;
         private final String symbol;
+        private final Color[] fadeColors;
+        private TextSprite symbolSprite;
 
         PowerType(int weight, int rgb, String symbol, int duration) {
             this.weight = weight;
             this.rgb = rgb;
             this.symbol = symbol;
             this.duration = duration;
+            this.fadeColors = createFadeColors(rgb);
         }
 
         public int getWeight() {
@@ -119,13 +132,27 @@ public class PowerUp implements Renderable {
             return rgb;
         }
 
+        public Color getFadeColor(int alpha) {
+            return fadeColors[alpha];
+        }
+
         public String getSymbol() {
             return symbol;
         }
+
+        public TextSprite getSymbolSprite() {
+            if (symbolSprite == null) symbolSprite = new TextSprite(symbol, DEFAULT_POWER_UP_FONT, new Color(BASE_HEX_COLOR));
+            return symbolSprite;
+        }
+
         public int getDuration() {
             return duration;
         }
 
+        private static Color[] createFadeColors(int rgb) {
+            return IntStream.rangeClosed(0, MAX_ALPHA).mapToObj(alpha -> new Color(rgb + (alpha << 24), true)).toArray(Color[]::new);
+        }
+
         public static PowerType getRandom() {
             int value = RandomValueRange.RND.nextInt(totalWeight);
             int cumulative = 0;
@@ -2,9 +2,10 @@ package ru.robert_grammy.astro_space.game.shape;
 
 import ru.robert_grammy.astro_space.engine.geometry.StraightLine;
 import ru.robert_grammy.astro_space.engine.geometry.Vector;
+import ru.robert_grammy.astro_space.utils.QMath;
 
 import java.awt.*;
-import java.util.Arrays;
+import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,55 +18,117 @@ public class LineShape {
     private final Color fillColor;
     private final Color lineColor;
     private final float lineWeight;
+    private final double localRadius;
+    private final Rectangle2D.Double bounds = new Rectangle2D.Double();
+    private final VertexView realPoints;
+    private final ShapeOutline outline;
+    private double realPointsX = Double.NaN, realPointsY = Double.NaN;
+    private double realPointsRotation;
+    private double realPointsScale;
     private double scale;
     private double degree;
+    private double previousDegree;
 
     public LineShape(double degree, Color fillColor, Color lineColor, float lineWeight, double scale, List<Vector> points) {
         this.degree = degree;
+        this.previousDegree = degree;
         this.fillColor = fillColor;
         this.lineColor = lineColor;
         this.lineWeight = lineWeight;
         this.scale = scale;
         this.points.addAll(points);
+        this.outline = new ShapeOutline(this.points, fillColor, lineColor, lineWeight);
+        this.localRadius = outline.getLocalRadius();
+        this.realPoints = new VertexView(this.points.size());
     }
 
     public LineShape(double degree, Color fillColor, Color lineColor, float lineWeight, double scale, Vector... points) {
         this.degree = degree;
+        this.previousDegree = degree;
         this.fillColor = fillColor;
         this.lineColor = lineColor;
         this.lineWeight = lineWeight;
         this.scale = scale;
         this.points.addAll(List.of(points));
+        this.outline = new ShapeOutline(this.points, fillColor, lineColor, lineWeight);
+        this.localRadius = outline.getLocalRadius();
+        this.realPoints = new VertexView(this.points.size());
     }
 
-    public List<Vector> getRealPoints(Vector position) {
-        return points.stream()
-                .map(Vector::clone)
-                .map(point -> point.multiply(scale))
-                .map(point -> point.fromBasis(X_BASIS_VECTOR.clone().rotate(getRotation())).add(position))
-                .toList();
+    public VertexView getRealPoints(Vector position) {
+        return getRealPoints(position.getX(), position.getY());
+    }
+
+    public VertexView getRealPoints(double x, double y) {
+        double rotation = degree;
+        if (x != realPointsX || y != realPointsY || rotation != realPointsRotation || scale != realPointsScale) {
+            transform(realPoints.getCoordinates(), x, y, rotation, scale);
+            realPointsX = x;
+            realPointsY = y;
+            realPointsRotation = rotation;
+            realPointsScale = scale;
+            updateBounds();
+        }
+        return realPoints;
+    }
+
+    public Rectangle2D getBounds(Vector position) {
+        return getBounds(position.getX(), position.getY());
+    }
+
+    public Rectangle2D getBounds(double x, double y) {
+        getRealPoints(x, y);
+        return bounds;
+    }
+
+    private void updateBounds() {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < realPoints.size(); i++) {
+            minX = Math.min(minX, realPoints.getX(i));
+            minY = Math.min(minY, realPoints.getY(i));
+            maxX = Math.max(maxX, realPoints.getX(i));
+            maxY = Math.max(maxY, realPoints.getY(i));
+        }
+        bounds.setFrameFromDiagonal(minX, minY, maxX, maxY);
+    }
+
+    private void transform(double[] target, double x, double y, double rotation, double scale) {
+        double xBasisX = QMath.cos(rotation);
+        double xBasisY = QMath.sin(rotation);
+        for (int i = 0; i < points.size(); i++) {
+            Vector point = points.get(i);
+            double localX = point.getX() * scale;
+            double localY = point.getY() * scale;
+            target[i * 2] = xBasisX * localX + -xBasisY * localY + x;
+            target[i * 2 + 1] = xBasisY * localX + xBasisX * localY + y;
+        }
     }
 
     public List<StraightLine> getRealLines(Vector position) {
-        List<Vector> points = getRealPoints(position);
+        VertexView points = getRealPoints(position);
         List<StraightLine> lines = new ArrayList<>();
         for (int i = 0; i<points.size(); i++) {
-            Vector a = points.get(i);
-            Vector b = points.get(i + 1 == points.size() ? 0 : i + 1);
-            lines.add(new StraightLine(a,b));
+            int next = points.next(i);
+            lines.add(new StraightLine(new Vector(points.getX(i), points.getY(i)), new Vector(points.getX(next), points.getY(next))));
         }
         return lines;
     }
 
     public void rotate(double degree) {
-        degree += this.degree;
-        setRotation((int) Math.floor(degree));
+        setRotation(this.degree + degree);
     }
 
-    public void setRotation(int degree) {
-        if (degree >= 360) degree -= 360;
-        if (degree < 0) degree += 360;
-        this.degree = degree;
+    public void setRotation(double degree) {
+        this.degree = QMath.normalizeDegree(degree);
+    }
+
+    public double getPreviousRotation() {
+        return previousDegree;
+    }
+
+    public void savePreviousRotation() {
+        previousDegree = degree;
     }
 
     public void setScale(double scale) {
@@ -76,12 +139,16 @@ public class LineShape {
         return scale;
     }
 
+    public double getBoundingRadius() {
+        return localRadius * scale;
+    }
+
     public void scale(double scale) {
         this.scale *= scale;
     }
 
-    public int getRotation() {
-        return (int) Math.floor(degree);
+    public double getRotation() {
+        return degree;
     }
 
     public Color getFillColor() {
@@ -96,6 +163,10 @@ public class LineShape {
         return lineWeight;
     }
 
+    public ShapeOutline getOutline() {
+        return outline;
+    }
+
     public Vector getXBasisVector() {
         return X_BASIS_VECTOR;
     }
@@ -0,0 +1,73 @@
+package ru.robert_grammy.astro_space.game.shape;
+
+import ru.robert_grammy.astro_space.engine.geometry.Vector;
+import ru.robert_grammy.astro_space.utils.QMath;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.util.List;
+import java.util.Optional;
+
+public class ShapeOutline {
+
+    private final Path2D.Double path = new Path2D.Double();
+    private final AffineTransform pathTransform = new AffineTransform();
+    private final Color fillColor;
+    private final Color lineColor;
+    private final float lineWeight;
+    private final double localRadius;
+    private BasicStroke stroke;
+
+    ShapeOutline(List<Vector> points, Color fillColor, Color lineColor, float lineWeight) {
+        this.fillColor = fillColor;
+        this.lineColor = lineColor;
+        this.lineWeight = lineWeight;
+        this.localRadius = points.stream().mapToDouble(Vector::length).max().orElse(0);
+        if (points.isEmpty()) return;
+        path.moveTo(points.get(0).getX(), points.get(0).getY());
+        for (int i = 1; i < points.size(); i++) {
+            path.lineTo(points.get(i).getX(), points.get(i).getY());
+        }
+        path.closePath();
+    }
+
+    public void paint(Graphics2D graphics, double x, double y, double rotation, double scale, Color fillColor, Color lineColor, float lineWeight) {
+        if (scale == 0) return;
+        pathTransform.setToTranslation(x, y);
+        pathTransform.rotate(QMath.cos(rotation), QMath.sin(rotation));
+        pathTransform.scale(scale, scale);
+        AffineTransform transform = graphics.getTransform();
+        graphics.transform(pathTransform);
+        graphics.setColor(fillColor);
+        graphics.fill(path);
+        graphics.setStroke(getStroke(lineWeight / (float) scale));
+        graphics.setColor(lineColor);
+        graphics.draw(path);
+        graphics.setTransform(transform);
+    }
+
+    private BasicStroke getStroke(float lineWeight) {
+        if (Optional.ofNullable(stroke).isEmpty() || stroke.getLineWidth() != lineWeight) {
+            stroke = new BasicStroke(lineWeight, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        }
+        return stroke;
+    }
+
+    public Color getFillColor() {
+        return fillColor;
+    }
+
+    public Color getLineColor() {
+        return lineColor;
+    }
+
+    public float getLineWeight() {
+        return lineWeight;
+    }
+
+    public double getLocalRadius() {
+        return localRadius;
+    }
+
+}
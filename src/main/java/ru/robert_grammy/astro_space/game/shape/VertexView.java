@@ -0,0 +1,33 @@
+package ru.robert_grammy.astro_space.game.shape;
+
+public class VertexView {
+
+    private final double[] coordinates;
+    private final int size;
+
+    VertexView(int size) {
+        this.size = size;
+        this.coordinates = new double[size * 2];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        return coordinates[index * 2];
+    }
+
+    public double getY(int index) {
+        return coordinates[index * 2 + 1];
+    }
+
+    public int next(int index) {
+        return index + 1 == size ? 0 : index + 1;
+    }
+
+    double[] getCoordinates() {
+        return coordinates;
+    }
+
+}
@@ -0,0 +1,96 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BackgroundLayer {
+
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final int clearColor;
+    private final double scale;
+    private final DiscRasterizer discRasterizer;
+    private final List<Rectangle2D.Double> damagedRegions = new ArrayList<>();
+    private int damagedRegionCount = 0;
+    private long damageSequence = 0;
+    private int version = 0;
+
+    public BackgroundLayer(int width, int height, int clearColor) {
+        this(width, height, 1, clearColor);
+    }
+
+    public BackgroundLayer(int width, int height, double scale, int clearColor) {
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.clearColor = clearColor;
+        this.scale = scale;
+        this.discRasterizer = new DiscRasterizer(pixels, width, height, scale);
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(pixels, clearColor);
+        discRasterizer.resetClip();
+        resetDamage();
+        version++;
+    }
+
+    public void clear(Rectangle2D region) {
+        int width = image.getWidth();
+        int left = Math.max(0, (int) Math.floor(region.getMinX() * scale));
+        int top = Math.max(0, (int) Math.floor(region.getMinY() * scale));
+        int right = Math.min(width, (int) Math.ceil(region.getMaxX() * scale));
+        int bottom = Math.min(image.getHeight(), (int) Math.ceil(region.getMaxY() * scale));
+        discRasterizer.setClip(left, top, right, bottom);
+        for (int row = top; row < bottom; row++) {
+            Arrays.fill(pixels, row * width + left, row * width + Math.max(left, right), clearColor);
+        }
+        if (damagedRegionCount == damagedRegions.size()) damagedRegions.add(new Rectangle2D.Double());
+        damagedRegions.get(damagedRegionCount++).setRect(region);
+        damageSequence++;
+    }
+
+    public void resetDamage() {
+        damagedRegionCount = 0;
+    }
+
+    public int getDamagedRegionCount() {
+        return damagedRegionCount;
+    }
+
+    public Rectangle2D getDamagedRegion(int index) {
+        return damagedRegions.get(index);
+    }
+
+    public long getDamageSequence() {
+        return damageSequence;
+    }
+
+    public void copyTo(int[] target) {
+        System.arraycopy(pixels, 0, target, 0, pixels.length);
+    }
+
+    public void copyTo(int[] target, int left, int top, int right, int bottom) {
+        int width = image.getWidth();
+        for (int row = top; row < bottom; row++) {
+            System.arraycopy(pixels, row * width + left, target, row * width + left, right - left);
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public DiscRasterizer getDiscRasterizer() {
+        return discRasterizer;
+    }
+
+}
@@ -1,84 +1,117 @@
 package ru.robert_grammy.astro_space.graphics;
 
-import ru.robert_grammy.astro_space.utils.GameDebugger;
-
 import java.awt.*;
-import java.awt.geom.AffineTransform;
-import java.awt.image.AffineTransformOp;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Optional;
 
 public class CanvasImage {
 
-    private static final int SQRT_OF_OPTIMIZE_THREADS_SCALE_IMAGE_COUNT = 5;
     private static final int CLEAR_COLOR = 0xFF110022;
-    private final BufferedImage image;
-    private final Graphics2D graphics;
-    private final int[] pixels;
+    private final int pixelWidth;
+    private final int pixelHeight;
+    private final double scale;
+    private final BackgroundLayer backgroundLayer;
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private int[] pixels;
+    private DiscRasterizer discRasterizer;
+    private ImageScaler imageScaler;
+    private int particleWorkers = 1;
 
     public CanvasImage(int width, int height) {
-        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        this(width, height, 1);
+    }
+
+    public CanvasImage(int width, int height, double scale) {
+        this(width, height, scale, true);
+    }
+
+    protected CanvasImage(int width, int height, double scale, boolean software) {
+        this.scale = scale;
+        pixelWidth = (int) Math.round(width * scale);
+        pixelHeight = (int) Math.round(height * scale);
+        backgroundLayer = new BackgroundLayer(pixelWidth, pixelHeight, scale, CLEAR_COLOR);
+        if (software) createSoftwareState();
+    }
+
+    private void createSoftwareState() {
+        if (Optional.ofNullable(image).isPresent()) return;
+        image = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
         pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        discRasterizer = new DiscRasterizer(pixels, pixelWidth, pixelHeight, scale);
+        discRasterizer.setParallelism(particleWorkers);
+        imageScaler = new ImageScaler(pixels, pixelWidth, pixelHeight);
         graphics = (Graphics2D) image.getGraphics();
         graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.scale(scale, scale);
     }
 
     public void clear() {
-        Arrays.fill(pixels, CLEAR_COLOR);
+        createSoftwareState();
+        graphics.setClip(null);
+        discRasterizer.resetClip();
+        backgroundLayer.copyTo(pixels);
+    }
+
+    public void clear(Rectangle2D region) {
+        createSoftwareState();
+        int left = Math.max(0, (int) Math.floor(region.getMinX() * scale));
+        int top = Math.max(0, (int) Math.floor(region.getMinY() * scale));
+        int right = Math.min(pixelWidth, (int) Math.ceil(region.getMaxX() * scale));
+        int bottom = Math.min(pixelHeight, (int) Math.ceil(region.getMaxY() * scale));
+        graphics.setClip(new Rectangle2D.Double(left / scale, top / scale, (right - left) / scale, (bottom - top) / scale));
+        discRasterizer.setClip(left, top, right, bottom);
+        backgroundLayer.copyTo(pixels, left, top, right, bottom);
     }
 
     public Graphics2D getGraphics() {
+        createSoftwareState();
         return graphics;
     }
 
+    public DiscRasterizer getDiscRasterizer() {
+        createSoftwareState();
+        return discRasterizer;
+    }
+
+    public BackgroundLayer getBackgroundLayer() {
+        return backgroundLayer;
+    }
+
     public BufferedImage get(double scale) {
-        return get(scale, SQRT_OF_OPTIMIZE_THREADS_SCALE_IMAGE_COUNT);
-    }
-
-    public BufferedImage get(double scale, int sqrtOfThreadsCount) {
-        return scale == 1 ? image : getScaledImage(image, scale, sqrtOfThreadsCount);
-    }
-
-    private BufferedImage getScaledImage(BufferedImage image, double scale, int threadsCount) {
-        int height = image.getHeight() / threadsCount, width = image.getWidth() / threadsCount;
-        int newHeight = (int) (height * scale), newWidth = (int) (width * scale);
-        List<Thread> threadList = new ArrayList<>();
-        BufferedImage result = new BufferedImage((int) (image.getWidth() * scale), (int) (image.getWidth() * scale), BufferedImage.TYPE_INT_ARGB);
-        Graphics2D graphics = (Graphics2D) result.getGraphics();
-        for (int v = 0; v<threadsCount; v++) {
-            for (int h = 0; h<threadsCount; h++) {
-                BufferedImage part = image.getSubimage(h * width, v * height, width, height);
-                int finalH = h;
-                int finalV = v;
-                Thread thread = new Thread(() -> {
-                    BufferedImage partOfResult = getScaledImage(part, scale);
-                    graphics.drawImage(partOfResult,  finalH * newWidth, finalV * newHeight, null);
-                });
-                threadList.add(thread);
-                thread.start();
-            }
-        }
-        threadList.forEach(thread -> {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                GameDebugger.console(e);
-            }
-        });
-        return result;
-    }
-
-    private BufferedImage getScaledImage(BufferedImage before, double scale) {
-        int width = before.getWidth();
-        int height = before.getHeight();
-        BufferedImage after = new BufferedImage((int) (width * scale), (int) (height * scale), BufferedImage.TYPE_INT_ARGB);
-        AffineTransform transform = AffineTransform.getScaleInstance(scale, scale);
-        AffineTransformOp scaleTransform = new AffineTransformOp(transform, AffineTransformOp.TYPE_BILINEAR);
-        after = scaleTransform.filter(before, after);
-        return after;
+        createSoftwareState();
+        return scale == 1 ? image : imageScaler.scale(scale);
+    }
+
+    public boolean drawTo(Graphics2D target, double scale) {
+        target.drawImage(get(scale), 0, 0, null);
+        return true;
+    }
+
+    public boolean isAccelerated() {
+        return false;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public int getParticleWorkers() {
+        return particleWorkers;
+    }
+
+    public void setParticleWorkers(int particleWorkers) {
+        this.particleWorkers = Math.max(1, particleWorkers);
+        Optional.ofNullable(discRasterizer).ifPresent(rasterizer -> rasterizer.setParallelism(this.particleWorkers));
+    }
+
+    public void dispose() {
+        if (Optional.ofNullable(image).isEmpty()) return;
+        discRasterizer.setParallelism(1);
+        imageScaler.shutdown();
+        graphics.dispose();
     }
 
 }
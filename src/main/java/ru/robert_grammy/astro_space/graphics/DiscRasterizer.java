@@ -0,0 +1,214 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class DiscRasterizer {
+
+    private static final int SUPERSAMPLING = 8;
+    private static final int CACHED_MASKS_COUNT = 128;
+    private static final int MAX_SCALED_MASK_SIZE = 512;
+    private static final int DEFAULT_CAPACITY = 512;
+    private static final int MIN_DISCS_PER_WORKER = 64;
+    private static final int[][] MASKS = new int[CACHED_MASKS_COUNT + 1][];
+    private final int[] pixels;
+    private final int width;
+    private final int height;
+    private final double scale;
+    private final int[][] scaledMasks;
+    private int[] lefts = new int[DEFAULT_CAPACITY];
+    private int[] tops = new int[DEFAULT_CAPACITY];
+    private int[] sizes = new int[DEFAULT_CAPACITY];
+    private int[] colors = new int[DEFAULT_CAPACITY];
+    private int[][] masks = new int[DEFAULT_CAPACITY][];
+    private int count;
+    private int clipLeft, clipTop, clipRight, clipBottom;
+    private int parallelism = 1;
+    private ExecutorService workers;
+    private List<Callable<Void>> bands = List.of();
+
+    public DiscRasterizer(int[] pixels, int width, int height) {
+        this(pixels, width, height, 1);
+    }
+
+    public DiscRasterizer(int[] pixels, int width, int height, double scale) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        this.scale = scale;
+        scaledMasks = scale == 1 ? null : new int[MAX_SCALED_MASK_SIZE + 1][];
+        resetClip();
+    }
+
+    public void setClip(int left, int top, int right, int bottom) {
+        clipLeft = Math.max(0, left);
+        clipTop = Math.max(0, top);
+        clipRight = Math.min(width, right);
+        clipBottom = Math.min(height, bottom);
+    }
+
+    public void resetClip() {
+        setClip(0, 0, width, height);
+    }
+
+    public void add(int left, int top, int size, int argb) {
+        if (size <= 0 || (argb >>> 24) == 0) return;
+        if (scale != 1) {
+            left = (int) Math.floor(left * scale);
+            top = (int) Math.floor(top * scale);
+            size = Math.max(1, (int) Math.round(size * scale));
+        }
+        if (left >= clipRight || top >= clipBottom || left + size <= clipLeft || top + size <= clipTop) return;
+        if (count == sizes.length) {
+            int capacity = count * 2;
+            lefts = Arrays.copyOf(lefts, capacity);
+            tops = Arrays.copyOf(tops, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            masks = Arrays.copyOf(masks, capacity);
+        }
+        lefts[count] = left;
+        tops[count] = top;
+        sizes[count] = size;
+        colors[count] = argb;
+        masks[count] = getScaledMask(size);
+        count++;
+    }
+
+    public void flush() {
+        if (count == 0) return;
+        if (parallelism > 1 && count >= MIN_DISCS_PER_WORKER * 2) {
+            try {
+                workers.invokeAll(bands);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                GameDebugger.console(e);
+            }
+        } else {
+            rasterize(0, height);
+        }
+        count = 0;
+    }
+
+    public void setParallelism(int parallelism) {
+        parallelism = Math.max(1, parallelism);
+        if (this.parallelism == parallelism) return;
+        this.parallelism = parallelism;
+        if (workers != null) workers.shutdown();
+        workers = null;
+        bands = List.of();
+        if (parallelism == 1) return;
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "Particle rasterizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Callable<Void>> bands = new ArrayList<>();
+        int bandHeight = (height + parallelism - 1) / parallelism;
+        for (int top = 0; top < height; top += bandHeight) {
+            int from = top, to = Math.min(height, top + bandHeight);
+            bands.add(() -> {
+                rasterize(from, to);
+                return null;
+            });
+        }
+        this.bands = bands;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private void rasterize(int fromRow, int toRow) {
+        for (int i = 0; i < count; i++) {
+            int size = sizes[i];
+            int left = lefts[i], top = tops[i];
+            int startRow = Math.max(top, Math.max(fromRow, clipTop)), endRow = Math.min(top + size, Math.min(toRow, clipBottom));
+            if (startRow >= endRow) continue;
+            int startColumn = Math.max(left, clipLeft), endColumn = Math.min(left + size, clipRight);
+            int[] mask = masks[i];
+            int color = colors[i];
+            int alpha = color >>> 24;
+            for (int row = startRow; row < endRow; row++) {
+                int maskOffset = (row - top) * size - left;
+                int pixelOffset = row * width;
+                for (int column = startColumn; column < endColumn; column++) {
+                    int coverage = mask[maskOffset + column];
+                    if (coverage == 0) continue;
+                    int index = pixelOffset + column;
+                    pixels[index] = blend(pixels[index], color, divideBy255(alpha * coverage));
+                }
+            }
+        }
+    }
+
+    private int[] getScaledMask(int size) {
+        if (size <= CACHED_MASKS_COUNT || size > MAX_SCALED_MASK_SIZE || scaledMasks == null) return getMask(size);
+        if (scaledMasks[size] == null) scaledMasks[size] = createMask(size);
+        return scaledMasks[size];
+    }
+
+    public static int blend(int destination, int source, int alpha) {
+        if (alpha <= 0) return destination;
+        int inverse = 255 - alpha;
+        int destinationAlpha = destination >>> 24;
+        int sourceRed = (source >> 16) & 0xFF, sourceGreen = (source >> 8) & 0xFF, sourceBlue = source & 0xFF;
+        int destinationRed = (destination >> 16) & 0xFF, destinationGreen = (destination >> 8) & 0xFF, destinationBlue = destination & 0xFF;
+        if (destinationAlpha == 255) {
+            int red = divideBy255(sourceRed * alpha + destinationRed * inverse);
+            int green = divideBy255(sourceGreen * alpha + destinationGreen * inverse);
+            int blue = divideBy255(sourceBlue * alpha + destinationBlue * inverse);
+            return 0xFF000000 | (red << 16) | (green << 8) | blue;
+        }
+        int weight = divideBy255(destinationAlpha * inverse);
+        int resultAlpha = alpha + weight;
+        if (resultAlpha == 0) return 0;
+        int red = (sourceRed * alpha + destinationRed * weight) / resultAlpha;
+        int green = (sourceGreen * alpha + destinationGreen * weight) / resultAlpha;
+        int blue = (sourceBlue * alpha + destinationBlue * weight) / resultAlpha;
+        return (resultAlpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    private static int divideBy255(int value) {
+        value += 128;
+        return (value + (value >> 8)) >> 8;
+    }
+
+    public static int[] getMask(int size) {
+        return size > CACHED_MASKS_COUNT ? createMask(size) : MASKS[size];
+    }
+
+    private static int[] createMask(int size) {
+        int[] mask = new int[size * size];
+        double radius = size / 2.0;
+        double radiusSquared = radius * radius;
+        int samples = SUPERSAMPLING * SUPERSAMPLING;
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                int inside = 0;
+                for (int sampleY = 0; sampleY < SUPERSAMPLING; sampleY++) {
+                    double y = row + (sampleY + 0.5) / SUPERSAMPLING - radius;
+                    for (int sampleX = 0; sampleX < SUPERSAMPLING; sampleX++) {
+                        double x = column + (sampleX + 0.5) / SUPERSAMPLING - radius;
+                        if (x * x + y * y <= radiusSquared) inside++;
+                    }
+                }
+                mask[row * size + column] = (inside * 255 + samples / 2) / samples;
+            }
+        }
+        return mask;
+    }
+
+    static {
+        for (int size = 1; size <= CACHED_MASKS_COUNT; size++) {
+            MASKS[size] = createMask(size);
+        }
+    }
+
+}
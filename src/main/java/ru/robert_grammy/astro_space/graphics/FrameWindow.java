@@ -0,0 +1,218 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import ru.robert_grammy.astro_space.engine.Keyboard;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
+import java.util.Optional;
+
+public class FrameWindow implements Window {
+
+    private static final int BUFFER_STRATEGY_COUNT = 3;
+    private static final double FRAME_WIDTH = BUFFER_WIDTH, FRAME_HEIGHT = BUFFER_HEIGHT;
+    private static final double SCREEN_WIDTH = Toolkit.getDefaultToolkit().getScreenSize().getWidth(), SCREEN_HEIGHT = Toolkit.getDefaultToolkit().getScreenSize().getHeight();
+    private static final double FULLSCREEN_SCALE = Math.max(SCREEN_WIDTH/FRAME_WIDTH, SCREEN_HEIGHT/FRAME_HEIGHT);
+    private final Keyboard keyboard = new Keyboard();
+    private final Canvas canvas = new Canvas();
+    private final Dimension dimension = new Dimension((int) FRAME_WIDTH, (int) FRAME_HEIGHT);
+    private CanvasImage canvasImage = new CanvasImage((int) FRAME_WIDTH, (int) FRAME_HEIGHT);
+    private CanvasImage nativeCanvasImage;
+    private CanvasImage activeCanvasImage = canvasImage;
+    private JFrame windowFrame = new JFrame();
+    private BufferStrategy bufferStrategy;
+    private boolean fullscreen = false;
+    private boolean nativeResolution = false;
+    private boolean accelerated = false;
+    private boolean visible = true;
+    private Runnable exposeListener = () -> {};
+
+    public FrameWindow() {
+        windowInitialize();
+        graphicsInitialize();
+    }
+
+    @Override
+    public void clear() {
+        selectCanvasImage();
+        activeCanvasImage.clear();
+    }
+
+    @Override
+    public void selectCanvasImage() {
+        if (canvasImage.isAccelerated() != accelerated) recreateCanvasImages();
+        activeCanvasImage = fullscreen && nativeResolution ? getNativeCanvasImage() : canvasImage;
+    }
+
+    private void recreateCanvasImages() {
+        int particleWorkers = canvasImage.getParticleWorkers();
+        canvasImage.dispose();
+        Optional.ofNullable(nativeCanvasImage).ifPresent(CanvasImage::dispose);
+        nativeCanvasImage = null;
+        canvasImage = createCanvasImage(1);
+        canvasImage.setParticleWorkers(particleWorkers);
+        accelerated = canvasImage.isAccelerated();
+    }
+
+    private CanvasImage createCanvasImage(double scale) {
+        if (!accelerated) return new CanvasImage((int) FRAME_WIDTH, (int) FRAME_HEIGHT, scale);
+        return new VolatileCanvasImage((int) FRAME_WIDTH, (int) FRAME_HEIGHT, scale, canvas.getGraphicsConfiguration());
+    }
+
+    @Override
+    public Graphics2D getGameGraphics() {
+        return activeCanvasImage.getGraphics();
+    }
+
+    @Override
+    public CanvasImage getCanvasImage() {
+        return activeCanvasImage;
+    }
+
+    private CanvasImage getNativeCanvasImage() {
+        if (Optional.ofNullable(nativeCanvasImage).isEmpty()) {
+            nativeCanvasImage = createCanvasImage(FULLSCREEN_SCALE);
+            nativeCanvasImage.setParticleWorkers(canvasImage.getParticleWorkers());
+        }
+        return nativeCanvasImage;
+    }
+
+    @Override
+    public boolean swapCanvasImage() {
+        if (!visible) return true;
+        double scale = fullscreen ? FULLSCREEN_SCALE / activeCanvasImage.getScale() : 1;
+        Graphics2D graphics = (Graphics2D) bufferStrategy.getDrawGraphics();
+        boolean presented = activeCanvasImage.drawTo(graphics, scale);
+        graphics.dispose();
+        if (presented) bufferStrategy.show();
+        return presented;
+    }
+
+    @Override
+    public Keyboard getKeyboard() {
+        return keyboard;
+    }
+
+    private void windowInitialize() {
+        windowFrame.setTitle(TITLE);
+        windowFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        canvas.setPreferredSize(dimension);
+        canvas.setFocusable(false);
+        windowFrame.getContentPane().add(canvas);
+        windowFrame.pack();
+        windowFrame.setResizable(false);
+        windowFrame.setLocationRelativeTo(null);
+        windowFrame.setVisible(true);
+        windowFrame.setFocusable(true);
+        windowFrame.addKeyListener(keyboard);
+        windowFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowActivated(WindowEvent e) {
+                exposeListener.run();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                exposeListener.run();
+            }
+        });
+        windowFrame.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                exposeListener.run();
+            }
+
+            @Override
+            public void componentShown(ComponentEvent e) {
+                exposeListener.run();
+            }
+        });
+    }
+
+    private void graphicsInitialize() {
+        canvas.createBufferStrategy(BUFFER_STRATEGY_COUNT);
+        bufferStrategy = canvas.getBufferStrategy();
+    }
+
+    @Override
+    public int getBufferWidth() {
+        return (int) FRAME_WIDTH;
+    }
+
+    @Override
+    public int getBufferHeight() {
+        return (int) FRAME_HEIGHT;
+    }
+
+    @Override
+    public void setFullscreen(boolean fullscreen) {
+        this.fullscreen = fullscreen;
+        if (fullscreen) {
+            toFullscreen();
+        } else {
+            toWindow();
+        }
+    }
+
+    private void toFullscreen() {
+        visible = false;
+        windowFrame.dispose();
+        windowFrame = new JFrame();
+        windowFrame.setUndecorated(true);
+        windowInitialize();
+        canvas.setPreferredSize(Toolkit.getDefaultToolkit().getScreenSize());
+        windowFrame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        visible = true;
+    }
+
+    private void toWindow() {
+        visible = false;
+        windowFrame.dispose();
+        windowFrame = new JFrame();
+        windowFrame.setUndecorated(false);
+        windowInitialize();
+        windowFrame.setExtendedState(JFrame.NORMAL);
+        visible = true;
+    }
+
+    @Override
+    public boolean isFullscreen() {
+        return fullscreen;
+    }
+
+    @Override
+    public void setNativeResolution(boolean nativeResolution) {
+        this.nativeResolution = nativeResolution;
+    }
+
+    @Override
+    public boolean isNativeResolution() {
+        return nativeResolution;
+    }
+
+    @Override
+    public void setAccelerated(boolean accelerated) {
+        this.accelerated = accelerated;
+    }
+
+    @Override
+    public boolean isAccelerated() {
+        return accelerated;
+    }
+
+    @Override
+    public int getRefreshRate() {
+        int refreshRate = windowFrame.getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : refreshRate;
+    }
+
+    @Override
+    public void setExposeListener(Runnable listener) {
+        exposeListener = listener;
+    }
+
+}
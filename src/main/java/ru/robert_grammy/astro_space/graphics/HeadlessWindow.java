@@ -0,0 +1,121 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import ru.robert_grammy.astro_space.engine.Keyboard;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+
+public class HeadlessWindow implements Window {
+
+    private final Keyboard keyboard = new Keyboard();
+    private CanvasImage canvasImage;
+    private CanvasImage nativeCanvasImage;
+    private CanvasImage activeCanvasImage;
+    private BufferedImage output;
+    private double outputScale = 1;
+    private boolean fullscreen = false;
+    private boolean nativeResolution = false;
+
+    @Override
+    public void clear() {
+        selectCanvasImage();
+        activeCanvasImage.clear();
+    }
+
+    @Override
+    public void selectCanvasImage() {
+        activeCanvasImage = nativeResolution && outputScale != 1 ? getNativeCanvasImage() : getBaseCanvasImage();
+    }
+
+    @Override
+    public Graphics2D getGameGraphics() {
+        return getCanvasImage().getGraphics();
+    }
+
+    @Override
+    public CanvasImage getCanvasImage() {
+        return Optional.ofNullable(activeCanvasImage).orElseGet(this::getBaseCanvasImage);
+    }
+
+    private CanvasImage getBaseCanvasImage() {
+        if (Optional.ofNullable(canvasImage).isEmpty()) canvasImage = new CanvasImage(BUFFER_WIDTH, BUFFER_HEIGHT);
+        return canvasImage;
+    }
+
+    private CanvasImage getNativeCanvasImage() {
+        if (Optional.ofNullable(nativeCanvasImage).isEmpty()) nativeCanvasImage = new CanvasImage(BUFFER_WIDTH, BUFFER_HEIGHT, outputScale);
+        return nativeCanvasImage;
+    }
+
+    @Override
+    public boolean swapCanvasImage() {
+        CanvasImage canvas = getCanvasImage();
+        output = canvas.get(outputScale / canvas.getScale());
+        return true;
+    }
+
+    public BufferedImage getOutput() {
+        return output;
+    }
+
+    public void setOutputScale(double outputScale) {
+        if (this.outputScale == outputScale) return;
+        this.outputScale = outputScale;
+        Optional.ofNullable(nativeCanvasImage).ifPresent(CanvasImage::dispose);
+        nativeCanvasImage = null;
+        activeCanvasImage = null;
+    }
+
+    @Override
+    public Keyboard getKeyboard() {
+        return keyboard;
+    }
+
+    @Override
+    public int getBufferWidth() {
+        return BUFFER_WIDTH;
+    }
+
+    @Override
+    public int getBufferHeight() {
+        return BUFFER_HEIGHT;
+    }
+
+    @Override
+    public void setFullscreen(boolean fullscreen) {
+        this.fullscreen = fullscreen;
+    }
+
+    @Override
+    public boolean isFullscreen() {
+        return fullscreen;
+    }
+
+    @Override
+    public void setNativeResolution(boolean nativeResolution) {
+        this.nativeResolution = nativeResolution;
+    }
+
+    @Override
+    public boolean isNativeResolution() {
+        return nativeResolution;
+    }
+
+    @Override
+    public void setAccelerated(boolean accelerated) {}
+
+    @Override
+    public boolean isAccelerated() {
+        return false;
+    }
+
+    @Override
+    public int getRefreshRate() {
+        return DEFAULT_REFRESH_RATE;
+    }
+
+    @Override
+    public void setExposeListener(Runnable listener) {}
+
+}
@@ -0,0 +1,128 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ImageScaler {
+
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final int WEIGHT_BITS = 8;
+    private static final int WEIGHT_ONE = 1 << WEIGHT_BITS;
+    private static final int RED_BLUE_MASK = 0x00FF00FF;
+    private final int[] source;
+    private final int sourceWidth;
+    private final int sourceHeight;
+    private final int parallelism;
+    private final ExecutorService workers;
+    private final List<Callable<Void>> bands = new ArrayList<>();
+    private BufferedImage target;
+    private int[] targetPixels;
+    private int targetWidth;
+    private int targetHeight;
+    private int[] columns, columnWeights;
+    private int[] rows, rowWeights;
+
+    public ImageScaler(int[] source, int sourceWidth, int sourceHeight) {
+        this(source, sourceWidth, sourceHeight, DEFAULT_PARALLELISM);
+    }
+
+    public ImageScaler(int[] source, int sourceWidth, int sourceHeight, int parallelism) {
+        this.source = source;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+        this.parallelism = Math.max(1, parallelism);
+        workers = this.parallelism == 1 ? null : Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "Image scaler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BufferedImage scale(double scale) {
+        prepare((int) (sourceWidth * scale), (int) (sourceHeight * scale));
+        if (parallelism == 1) {
+            scaleRows(0, targetHeight);
+            return target;
+        }
+        try {
+            workers.invokeAll(bands);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            GameDebugger.console(e);
+        }
+        return target;
+    }
+
+    private void prepare(int width, int height) {
+        if (target != null && width == targetWidth && height == targetHeight) return;
+        targetWidth = width;
+        targetHeight = height;
+        target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        targetPixels = ((DataBufferInt) target.getRaster().getDataBuffer()).getData();
+        columns = new int[width];
+        columnWeights = new int[width];
+        rows = new int[height];
+        rowWeights = new int[height];
+        samples(columns, columnWeights, sourceWidth, (double) sourceWidth / width);
+        samples(rows, rowWeights, sourceHeight, (double) sourceHeight / height);
+        bands.clear();
+        int bandHeight = (height + parallelism - 1) / parallelism;
+        for (int top = 0; top < height; top += bandHeight) {
+            int from = top, to = Math.min(height, top + bandHeight);
+            bands.add(() -> {
+                scaleRows(from, to);
+                return null;
+            });
+        }
+    }
+
+    private static void samples(int[] indices, int[] weights, int sourceSize, double step) {
+        for (int i = 0; i < indices.length; i++) {
+            double position = Math.max(0, (i + 0.5) * step - 0.5);
+            int index = Math.min((int) position, sourceSize - 1);
+            indices[i] = index;
+            weights[i] = index == sourceSize - 1 ? 0 : (int) ((position - index) * WEIGHT_ONE);
+        }
+    }
+
+    private void scaleRows(int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            int upperOffset = rows[row] * sourceWidth;
+            int lowerOffset = rowWeights[row] == 0 ? upperOffset : upperOffset + sourceWidth;
+            int rowWeight = rowWeights[row];
+            int targetOffset = row * targetWidth;
+            for (int column = 0; column < targetWidth; column++) {
+                int index = columns[column];
+                int next = columnWeights[column] == 0 ? index : index + 1;
+                int columnWeight = columnWeights[column];
+                int upper = lerp(source[upperOffset + index], source[upperOffset + next], columnWeight);
+                int lower = lerp(source[lowerOffset + index], source[lowerOffset + next], columnWeight);
+                targetPixels[targetOffset + column] = lerp(upper, lower, rowWeight);
+            }
+        }
+    }
+
+    private static int lerp(int first, int second, int weight) {
+        if (weight == 0 || first == second) return first;
+        int inverse = WEIGHT_ONE - weight;
+        int redBlue = (((first & RED_BLUE_MASK) * inverse + (second & RED_BLUE_MASK) * weight) >>> WEIGHT_BITS) & RED_BLUE_MASK;
+        int alphaGreen = ((((first >>> 8) & RED_BLUE_MASK) * inverse + ((second >>> 8) & RED_BLUE_MASK) * weight) >>> WEIGHT_BITS) & RED_BLUE_MASK;
+        return redBlue | (alphaGreen << 8);
+    }
+
+    public void shutdown() {
+        if (workers != null) workers.shutdown();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+}
@@ -0,0 +1,96 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+
+public class TextSprite {
+
+    private static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(null, true, true);
+    private static final AffineTransform IDENTITY = new AffineTransform();
+    private static final int PADDING = 4;
+    private final Font font;
+    private final Color color;
+    private String text = "";
+    private double width;
+    private double advance;
+    private double ascent;
+    private double descent;
+    private BufferedImage image;
+    private double imageScale;
+
+    public TextSprite(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+    }
+
+    public TextSprite(String text, Font font, Color color) {
+        this(font, color);
+        setText(text);
+    }
+
+    public void setText(String text) {
+        if (this.text.equals(text)) return;
+        this.text = text;
+        image = null;
+        if (text.isEmpty()) {
+            width = advance = ascent = descent = 0;
+            return;
+        }
+        TextLayout layout = new TextLayout(text, font, FONT_RENDER_CONTEXT);
+        width = layout.getBounds().getWidth();
+        advance = layout.getAdvance();
+        ascent = layout.getAscent();
+        descent = layout.getDescent();
+    }
+
+    public void draw(Graphics2D graphics, double x, double y) {
+        draw(graphics, x, y, 1);
+    }
+
+    public void draw(Graphics2D graphics, double x, double y, float alpha) {
+        if (text.isEmpty() || alpha <= 0) return;
+        AffineTransform transform = graphics.getTransform();
+        double scale = transform.getScaleX();
+        if (Optional.ofNullable(image).isEmpty() || imageScale != scale) render(scale);
+        Composite composite = graphics.getComposite();
+        if (alpha < 1) graphics.setComposite(AlphaComposite.SrcOver.derive(alpha));
+        graphics.setTransform(IDENTITY);
+        int left = (int) Math.round((int) x * scale + transform.getTranslateX()) - (int) Math.round(PADDING * scale);
+        int top = (int) Math.round((int) y * scale + transform.getTranslateY()) - (int) Math.round((PADDING + ascent) * scale);
+        graphics.drawImage(image, left, top, null);
+        graphics.setTransform(transform);
+        graphics.setComposite(composite);
+    }
+
+    private void render(double scale) {
+        int imageWidth = (int) Math.ceil((advance + PADDING * 2) * scale);
+        int imageHeight = (int) Math.ceil((ascent + descent + PADDING * 2) * scale);
+        image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        imageScale = scale;
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.translate(Math.round(PADDING * scale), Math.round((PADDING + ascent) * scale));
+        graphics.scale(scale, scale);
+        graphics.setFont(font);
+        graphics.setColor(color);
+        graphics.drawString(text, 0, 0);
+        graphics.dispose();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getAscent() {
+        return ascent;
+    }
+
+}
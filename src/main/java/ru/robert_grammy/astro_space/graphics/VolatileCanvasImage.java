@@ -0,0 +1,194 @@
+package ru.robert_grammy.astro_space.graphics;
+
+import ru.robert_grammy.astro_space.utils.GameDebugger;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Optional;
+
+public class VolatileCanvasImage extends CanvasImage {
+
+    private static final String FALLBACK_MESSAGE = "Accelerated render target is unavailable, falling back to software rendering";
+    private final GraphicsConfiguration configuration;
+    private final int width;
+    private final int height;
+    private final Rectangle pixelRegion = new Rectangle();
+    private VolatileImage image;
+    private VolatileImage layerImage;
+    private Graphics2D graphics;
+    private Graphics2D pixelGraphics;
+    private BufferedImage copy;
+    private boolean layerUploaded;
+    private int uploadedLayerVersion;
+    private long uploadedDamageSequence;
+    private boolean contentsRestored;
+    private boolean accelerated;
+
+    public VolatileCanvasImage(int width, int height, double scale, GraphicsConfiguration configuration) {
+        super(width, height, scale, false);
+        this.configuration = configuration;
+        this.width = (int) Math.round(width * scale);
+        this.height = (int) Math.round(height * scale);
+        accelerated = create();
+    }
+
+    private boolean create() {
+        disposeGraphics();
+        Optional.ofNullable(image).ifPresent(VolatileImage::flush);
+        Optional.ofNullable(layerImage).ifPresent(VolatileImage::flush);
+        image = null;
+        layerImage = null;
+        layerUploaded = false;
+        if (GraphicsEnvironment.isHeadless() || Optional.ofNullable(configuration).isEmpty()) return fallback();
+        try {
+            image = configuration.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+            layerImage = configuration.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+        } catch (RuntimeException e) {
+            GameDebugger.console(e);
+        }
+        if (Optional.ofNullable(image).isEmpty() || Optional.ofNullable(layerImage).isEmpty() || !image.getCapabilities().isAccelerated()) return fallback();
+        return true;
+    }
+
+    private boolean fallback() {
+        GameDebugger.console(FALLBACK_MESSAGE);
+        return false;
+    }
+
+    private boolean prepare() {
+        if (!accelerated) return false;
+        int status = image.validate(configuration), layerStatus = layerImage.validate(configuration);
+        if (status != VolatileImage.IMAGE_OK || layerStatus == VolatileImage.IMAGE_INCOMPATIBLE) contentsRestored = true;
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE || layerStatus == VolatileImage.IMAGE_INCOMPATIBLE) {
+            accelerated = create();
+            if (!accelerated) return false;
+        }
+        if (layerStatus != VolatileImage.IMAGE_OK) layerUploaded = false;
+        uploadLayer();
+        return true;
+    }
+
+    private void createGraphics() {
+        disposeGraphics();
+        pixelGraphics = image.createGraphics();
+        graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.scale(getScale(), getScale());
+    }
+
+    private void disposeGraphics() {
+        Optional.ofNullable(graphics).ifPresent(Graphics::dispose);
+        Optional.ofNullable(pixelGraphics).ifPresent(Graphics::dispose);
+        graphics = null;
+        pixelGraphics = null;
+    }
+
+    private void uploadLayer() {
+        BackgroundLayer layer = getBackgroundLayer();
+        long pendingRegions = layer.getDamageSequence() - uploadedDamageSequence;
+        boolean fullUpload = !layerUploaded || layer.getVersion() != uploadedLayerVersion || pendingRegions > layer.getDamagedRegionCount();
+        if (!fullUpload && pendingRegions == 0) return;
+        Graphics2D layerGraphics = layerImage.createGraphics();
+        if (fullUpload) {
+            layerGraphics.drawImage(layer.getImage(), 0, 0, null);
+        } else {
+            for (int i = layer.getDamagedRegionCount() - (int) pendingRegions; i < layer.getDamagedRegionCount(); i++) {
+                setPixelRegion(layer.getDamagedRegion(i));
+                drawPixelRegion(layerGraphics, layer.getImage());
+            }
+        }
+        layerGraphics.dispose();
+        layerUploaded = true;
+        uploadedLayerVersion = layer.getVersion();
+        uploadedDamageSequence = layer.getDamageSequence();
+    }
+
+    private void setPixelRegion(Rectangle2D region) {
+        int left = Math.max(0, (int) Math.floor(region.getMinX() * getScale()));
+        int top = Math.max(0, (int) Math.floor(region.getMinY() * getScale()));
+        int right = Math.min(width, (int) Math.ceil(region.getMaxX() * getScale()));
+        int bottom = Math.min(height, (int) Math.ceil(region.getMaxY() * getScale()));
+        pixelRegion.setBounds(left, top, Math.max(0, right - left), Math.max(0, bottom - top));
+    }
+
+    private void drawPixelRegion(Graphics2D target, Image source) {
+        int left = pixelRegion.x, top = pixelRegion.y, right = left + pixelRegion.width, bottom = top + pixelRegion.height;
+        target.drawImage(source, left, top, right, bottom, left, top, right, bottom, null);
+    }
+
+    @Override
+    public void clear() {
+        boolean prepared = prepare();
+        if (prepared && (contentsRestored || Optional.ofNullable(graphics).isEmpty())) createGraphics();
+        contentsRestored = false;
+        if (!prepared) {
+            super.clear();
+            return;
+        }
+        graphics.setClip(null);
+        pixelGraphics.drawImage(layerImage, 0, 0, null);
+    }
+
+    @Override
+    public void clear(Rectangle2D region) {
+        if (!prepare()) {
+            super.clear(region);
+            return;
+        }
+        if (Optional.ofNullable(graphics).isEmpty()) createGraphics();
+        setPixelRegion(region);
+        double scale = getScale();
+        graphics.setClip(new Rectangle2D.Double(pixelRegion.x / scale, pixelRegion.y / scale, pixelRegion.width / scale, pixelRegion.height / scale));
+        drawPixelRegion(pixelGraphics, layerImage);
+    }
+
+    @Override
+    public Graphics2D getGraphics() {
+        return accelerated ? graphics : super.getGraphics();
+    }
+
+    @Override
+    public BufferedImage get(double scale) {
+        if (!accelerated) return super.get(scale);
+        int copyWidth = (int) (width * scale), copyHeight = (int) (height * scale);
+        if (Optional.ofNullable(copy).isEmpty() || copy.getWidth() != copyWidth || copy.getHeight() != copyHeight) {
+            Optional.ofNullable(copy).ifPresent(BufferedImage::flush);
+            copy = new BufferedImage(copyWidth, copyHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D copyGraphics = copy.createGraphics();
+        drawTo(copyGraphics, scale);
+        copyGraphics.dispose();
+        return copy;
+    }
+
+    @Override
+    public boolean drawTo(Graphics2D target, double scale) {
+        if (!accelerated) return super.drawTo(target, scale) && !contentsRestored;
+        int status = image.validate(configuration);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) accelerated = create();
+        if (status != VolatileImage.IMAGE_OK) {
+            contentsRestored = true;
+            return false;
+        }
+        if (scale != 1) target.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        target.drawImage(image, 0, 0, (int) (width * scale), (int) (height * scale), null);
+        return !image.contentsLost() && !contentsRestored;
+    }
+
+    @Override
+    public boolean isAccelerated() {
+        return accelerated;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        disposeGraphics();
+        Optional.ofNullable(image).ifPresent(VolatileImage::flush);
+        Optional.ofNullable(layerImage).ifPresent(VolatileImage::flush);
+        Optional.ofNullable(copy).ifPresent(BufferedImage::flush);
+    }
+
+}
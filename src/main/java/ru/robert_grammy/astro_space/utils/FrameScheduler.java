@@ -0,0 +1,44 @@
+package ru.robert_grammy.astro_space.utils;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class FrameScheduler {
+
+    private static final long SPIN_THRESHOLD = 1000000L;
+    private final TimeManager time;
+    private long nextFrameTime;
+
+    public FrameScheduler(TimeManager time) {
+        this.time = time;
+        reset();
+    }
+
+    public void reset() {
+        nextFrameTime = TimeManager.getCurrentTime();
+    }
+
+    public void awaitNextFrame() {
+        long interval = (long) time.getUpdateInterval();
+        nextFrameTime += interval;
+        long now = TimeManager.getCurrentTime();
+        if (nextFrameTime < now - interval) nextFrameTime = now;
+        waitUntil(nextFrameTime);
+    }
+
+    public TimeManager getTimeManager() {
+        return time;
+    }
+
+    public static void waitUntil(long deadline) {
+        while (!Thread.currentThread().isInterrupted()) {
+            long remaining = deadline - TimeManager.getCurrentTime();
+            if (remaining <= 0) return;
+            if (remaining > SPIN_THRESHOLD) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+}
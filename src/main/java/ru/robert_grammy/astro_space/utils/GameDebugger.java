@@ -1,6 +1,6 @@
 package ru.robert_grammy.astro_space.utils;
 
-import ru.robert_grammy.astro_space.Main;
+import ru.robert_grammy.astro_space.game.Game;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -9,7 +9,7 @@ public final class GameDebugger {
 
     private GameDebugger() {}
 
-    private static final Logger logger = Logger.getLogger(Main.getGame().getClass().getName());
+    private static final Logger logger = Logger.getLogger(Game.class.getName());
 
     public static void console(String text) {
         logger.log(Level.INFO, text);
@@ -1,39 +1,81 @@
 package ru.robert_grammy.astro_space.utils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public final class QMath {
 
     public static final int DEGREES_OF_RIGHT_ANGLE = 90;
-    private static final Map<Integer, Double> sinTable = new HashMap<>();
-    private static final Map<Integer, Double> cosTable = new HashMap<>();
+    public static final int DEGREES_OF_FULL_ANGLE = 360;
+    public static final String RESOLUTION_PROPERTY = "astro_space.qmath.resolution";
+    public static final int DEFAULT_RESOLUTION = 16;
+    public static final int RESOLUTION = Math.max(1, Integer.getInteger(RESOLUTION_PROPERTY, DEFAULT_RESOLUTION));
+    private static final int TABLE_SIZE = DEGREES_OF_FULL_ANGLE * RESOLUTION;
+    private static final double[] sinTable = new double[TABLE_SIZE + 1];
+    private static final double[] cosTable = new double[TABLE_SIZE + 1];
+    private static final int INTERPOLATION_TABLE_BITS = 13;
+    private static final int INTERPOLATION_TABLE_SIZE = 1 << INTERPOLATION_TABLE_BITS;
+    private static final int INTERPOLATION_TABLE_MASK = INTERPOLATION_TABLE_SIZE - 1;
+    private static final int INTERPOLATION_QUARTER_TURN = INTERPOLATION_TABLE_SIZE / 4;
+    private static final double INTERPOLATION_STEPS_PER_DEGREE = (double) INTERPOLATION_TABLE_SIZE / DEGREES_OF_FULL_ANGLE;
+    private static final double[] interpolationTable = new double[INTERPOLATION_TABLE_SIZE + 1];
 
     private QMath() {}
 
     public static double sin(int degree) {
-        if (degree >= 360) degree -= 360;
-        if (degree < 0) degree += 360;
-        double radian = Math.toRadians(degree);
-        if (!sinTable.containsKey(degree)) {
-            sinTable.put(degree, Math.sin(radian));
-        }
-        return sinTable.get(degree);
+        return sinTable[wrap(degree * RESOLUTION)];
     }
 
     public static double cos(int degree) {
-        degree = degree >= 360 ? degree - 360 : degree;
-        double radian = Math.toRadians(degree);
-        if (!cosTable.containsKey(degree)) {
-            cosTable.put(degree, Math.cos(radian));
-        }
-        return cosTable.get(degree);
+        return cosTable[wrap(degree * RESOLUTION)];
+    }
+
+    public static double sin(double degree) {
+        return sinTable[wrap((int) Math.floor(degree * RESOLUTION + 0.5))];
+    }
+
+    public static double cos(double degree) {
+        return cosTable[wrap((int) Math.floor(degree * RESOLUTION + 0.5))];
+    }
+
+    public static double interpolatedSin(double degree) {
+        return interpolate(degree, 0);
+    }
+
+    public static double interpolatedCos(double degree) {
+        return interpolate(degree, INTERPOLATION_QUARTER_TURN);
+    }
+
+    public static double normalizeDegree(double degree) {
+        degree %= DEGREES_OF_FULL_ANGLE;
+        return degree < 0 ? degree + DEGREES_OF_FULL_ANGLE : degree;
+    }
+
+    public static double interpolateDegree(double from, double to, double interpolation) {
+        double difference = to - from;
+        if (difference > 180) difference -= 360;
+        if (difference < -180) difference += 360;
+        return normalizeDegree(from + difference * interpolation);
+    }
+
+    private static double interpolate(double degree, int offset) {
+        double position = degree * INTERPOLATION_STEPS_PER_DEGREE;
+        int step = (int) Math.floor(position);
+        double fraction = position - step;
+        int index = (step + offset) & INTERPOLATION_TABLE_MASK;
+        return interpolationTable[index] + (interpolationTable[index + 1] - interpolationTable[index]) * fraction;
+    }
+
+    private static int wrap(int index) {
+        index %= TABLE_SIZE;
+        return index < 0 ? index + TABLE_SIZE : index;
     }
 
     static {
-        for (int degree = 0; degree<360; degree++) {
-            sin(degree);
-            cos(degree);
+        for (int index = 0; index <= TABLE_SIZE; index++) {
+            double radian = Math.toRadians((double) index / RESOLUTION);
+            sinTable[index] = Math.sin(radian);
+            cosTable[index] = Math.cos(radian);
+        }
+        for (int index = 0; index <= INTERPOLATION_TABLE_SIZE; index++) {
+            interpolationTable[index] = Math.sin(2 * Math.PI * index / INTERPOLATION_TABLE_SIZE);
         }
     }
 
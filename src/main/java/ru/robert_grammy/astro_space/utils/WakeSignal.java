@@ -0,0 +1,35 @@
+package ru.robert_grammy.astro_space.utils;
+
+import java.util.concurrent.TimeUnit;
+
+public class WakeSignal {
+
+    private long generation = 0;
+
+    public synchronized void signal() {
+        generation++;
+        notifyAll();
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public void await(long generation) {
+        await(generation, Long.MAX_VALUE);
+    }
+
+    public synchronized void await(long generation, long timeout) {
+        long deadline = TimeManager.getCurrentTime() + Math.min(timeout, Long.MAX_VALUE / 2);
+        while (this.generation == generation && !Thread.currentThread().isInterrupted()) {
+            long remaining = deadline - TimeManager.getCurrentTime();
+            if (remaining <= 0) return;
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}